@@ -0,0 +1,15 @@
+package com.airesumebuilder.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Channel used to tell other application instances to drop near-cache entries,
+ * e.g. Redis pub/sub or Postgres LISTEN/NOTIFY.
+ * Delivery is best effort; near-cache expiry bounds staleness if a message is lost.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
@@ -0,0 +1,27 @@
+package com.airesumebuilder.cache;
+
+/**
+ * Invalidation broadcast to the other application instances.
+ * A null key means the whole cache was cleared.
+ */
+public class CacheInvalidationMessage {
+
+    private final String originNodeId;
+    private final String cacheName;
+    private final String key;
+
+    public CacheInvalidationMessage(String originNodeId, String cacheName, String key) {
+        this.originNodeId = originNodeId;
+        this.cacheName = cacheName;
+        this.key = key;
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    // Getters
+    public String getOriginNodeId() { return originNodeId; }
+    public String getCacheName() { return cacheName; }
+    public String getKey() { return key; }
+}
@@ -0,0 +1,107 @@
+package com.airesumebuilder.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for a shared cache tier.
+ * Used for single-instance deployments and tests; instances created by separate
+ * JVMs do not see each other's entries. Each cache is bounded by entry count, and
+ * entries expire after their TTL whether or not they are read again.
+ */
+public class InMemorySharedCacheTier implements SharedCacheTier {
+
+    private static final long DEFAULT_MAX_ENTRIES = 10000;
+
+    private final long maxEntries;
+    private final Map<String, Cache<String, Entry>> caches = new ConcurrentHashMap<>();
+
+    public InMemorySharedCacheTier() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public InMemorySharedCacheTier(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        Cache<String, Entry> cache = caches.get(cacheName);
+        if (cache == null) {
+            return null;
+        }
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? entry.value : null;
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration ttl) {
+        long ttlNanos = ttl.isZero() ? Long.MAX_VALUE : ttl.toNanos();
+        caches.computeIfAbsent(cacheName, name -> newCache()).put(key, new Entry(value, ttlNanos));
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        Cache<String, Entry> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        Cache<String, Entry> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Number of live entries in a cache, after pending evictions have run
+     */
+    long size(String cacheName) {
+        Cache<String, Entry> cache = caches.get(cacheName);
+        if (cache == null) {
+            return 0;
+        }
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private Cache<String, Entry> newCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    private static final class Entry {
+        private final byte[] value;
+        private final long ttlNanos;
+
+        private Entry(byte[] value, long ttlNanos) {
+            this.value = value;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+}
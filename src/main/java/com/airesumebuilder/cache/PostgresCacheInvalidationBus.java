@@ -0,0 +1,57 @@
+package com.airesumebuilder.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Invalidation bus on Postgres LISTEN/NOTIFY, so every instance sharing the database
+ * receives every message without another broker.
+ * A lost notification leaves a stale near-cache entry until it expires.
+ */
+public class PostgresCacheInvalidationBus extends PostgresNotificationBus<CacheInvalidationMessage>
+        implements CacheInvalidationBus {
+
+    static final String CHANNEL = "cache_invalidation";
+
+    private final ObjectMapper objectMapper;
+
+    public PostgresCacheInvalidationBus(JdbcTemplate jdbcTemplate, ConnectionFactory connectionFactory,
+                                        ObjectMapper objectMapper) {
+        super(jdbcTemplate, connectionFactory, CHANNEL);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        String payload = encode(message);
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            // Too long to notify; other instances drop the whole cache instead
+            payload = encode(new CacheInvalidationMessage(message.getOriginNodeId(), message.getCacheName(), null));
+        }
+        send(payload);
+    }
+
+    @Override
+    protected String encode(CacheInvalidationMessage message) {
+        ObjectNode node = objectMapper.createObjectNode()
+                .put("origin", message.getOriginNodeId())
+                .put("cache", message.getCacheName());
+        if (!message.isClear()) {
+            node.put("key", message.getKey());
+        }
+        return node.toString();
+    }
+
+    @Override
+    protected CacheInvalidationMessage decode(String payload) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(payload);
+        JsonNode key = node.get("key");
+        return new CacheInvalidationMessage(node.path("origin").asText(), node.path("cache").asText(),
+                key == null || key.isNull() ? null : key.asText());
+    }
+}
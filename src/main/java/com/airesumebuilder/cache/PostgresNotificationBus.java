@@ -0,0 +1,145 @@
+package com.airesumebuilder.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Base for message buses on one Postgres LISTEN/NOTIFY channel, so every instance sharing
+ * the database receives every message without another broker.
+ *
+ * Messages are published with pg_notify through the application's connection pool, so a
+ * message sent inside a transaction is delivered only when it commits. A daemon thread
+ * holds one dedicated connection outside the pool, LISTENs on the channel and hands each
+ * notification to the subscribers. After a lost connection it reconnects with a backoff;
+ * messages sent in between are missed.
+ *
+ * @param <M> message type carried as the notification payload
+ */
+public abstract class PostgresNotificationBus<M> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresNotificationBus.class);
+    // Postgres rejects NOTIFY payloads of 8000 bytes or more
+    protected static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final long MAX_RECONNECT_BACKOFF_MS = 30_000;
+
+    /**
+     * Opens the dedicated listening connection
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection connect() throws SQLException;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConnectionFactory connectionFactory;
+    private final String channel;
+    private final List<Consumer<M>> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    protected PostgresNotificationBus(JdbcTemplate jdbcTemplate, ConnectionFactory connectionFactory, String channel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.connectionFactory = connectionFactory;
+        this.channel = channel;
+    }
+
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, channel.replace('_', '-') + "-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    public void subscribe(Consumer<M> listener) {
+        listeners.add(listener);
+    }
+
+    protected abstract String encode(M message);
+
+    protected abstract M decode(String payload) throws JsonProcessingException;
+
+    /**
+     * Send an encoded message on the channel; failures are logged, never thrown
+     */
+    protected void send(String payload) {
+        try {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, payload);
+        } catch (RuntimeException e) {
+            log.warn("Could not publish on channel {}: {}", channel, e.getMessage());
+        }
+    }
+
+    /**
+     * Decode a notification payload and deliver it to every subscriber
+     */
+    protected void dispatch(String payload) {
+        M message;
+        try {
+            message = decode(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable message on channel {}: {}", channel, e.getMessage());
+            return;
+        }
+        for (Consumer<M> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("Listener on channel {} failed: {}", channel, e.getMessage());
+            }
+        }
+    }
+
+    private void listen() {
+        long backoffMs = 1000;
+        while (running) {
+            try (Connection connection = connectionFactory.connect()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening on channel {}", channel);
+                backoffMs = 1000;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Listener on channel {} lost its connection, retrying in {} ms: {}",
+                        channel, backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_RECONNECT_BACKOFF_MS);
+            }
+        }
+    }
+}
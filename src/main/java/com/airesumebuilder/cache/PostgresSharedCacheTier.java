@@ -0,0 +1,117 @@
+package com.airesumebuilder.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared cache tier stored in an UNLOGGED Postgres table on the application database.
+ * One primary-key read replaces the several queries a cache miss costs, and every
+ * instance sees the same entries. UNLOGGED skips the write-ahead log: the table is
+ * emptied after a crash, which only costs cache misses.
+ *
+ * Expired entries are never returned and are deleted by a periodic purge, which also
+ * trims the table to its entry budget, dropping the entries closest to expiry first.
+ */
+public class PostgresSharedCacheTier implements SharedCacheTier, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresSharedCacheTier.class);
+    static final String TABLE = "shared_cache_entry";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxEntries;
+    private final Duration purgeInterval;
+    private ScheduledExecutorService purgeExecutor;
+
+    public PostgresSharedCacheTier(JdbcTemplate jdbcTemplate, long maxEntries, Duration purgeInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxEntries = maxEntries;
+        this.purgeInterval = purgeInterval;
+    }
+
+    /**
+     * Create the table if needed and schedule the purge
+     */
+    public void start() {
+        jdbcTemplate.execute("CREATE UNLOGGED TABLE IF NOT EXISTS " + TABLE + " ("
+                + "cache_name VARCHAR(100) NOT NULL, "
+                + "cache_key VARCHAR(255) NOT NULL, "
+                + "value BYTEA NOT NULL, "
+                + "expires_at TIMESTAMPTZ NOT NULL, "
+                + "PRIMARY KEY (cache_name, cache_key))");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + TABLE + "_expires_at ON " + TABLE + " (expires_at)");
+
+        purgeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shared-cache-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = purgeInterval.toMillis();
+        purgeExecutor.scheduleWithFixedDelay(this::purgeQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        if (purgeExecutor != null) {
+            purgeExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        List<byte[]> values = jdbcTemplate.query(
+                "SELECT value FROM " + TABLE + " WHERE cache_name = ? AND cache_key = ? AND expires_at > now()",
+                (rs, row) -> rs.getBytes(1), cacheName, key);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration ttl) {
+        // Expiry uses the database clock so instances with skewed clocks agree
+        String expiresAt = ttl.isZero() ? "'infinity'::timestamptz" : "now() + ? * interval '1 millisecond'";
+        String sql = "INSERT INTO " + TABLE + " (cache_name, cache_key, value, expires_at) VALUES (?, ?, ?, "
+                + expiresAt + ") ON CONFLICT (cache_name, cache_key) "
+                + "DO UPDATE SET value = EXCLUDED.value, expires_at = EXCLUDED.expires_at";
+        if (ttl.isZero()) {
+            jdbcTemplate.update(sql, cacheName, key, value);
+        } else {
+            jdbcTemplate.update(sql, cacheName, key, value, ttl.toMillis());
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE cache_name = ? AND cache_key = ?", cacheName, key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE cache_name = ?", cacheName);
+    }
+
+    /**
+     * Delete expired entries, then the entries closest to expiry beyond the budget
+     */
+    void purge() {
+        int expired = jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE expires_at <= now()");
+        int trimmed = jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE ctid IN ("
+                + "SELECT ctid FROM " + TABLE + " ORDER BY expires_at DESC OFFSET ?)", maxEntries);
+        if (expired + trimmed > 0) {
+            log.debug("Purged {} expired and {} surplus shared cache entries", expired, trimmed);
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            log.warn("Shared cache purge failed: {}", e.getMessage());
+        }
+    }
+}
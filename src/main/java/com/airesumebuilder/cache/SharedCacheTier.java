@@ -0,0 +1,21 @@
+package com.airesumebuilder.cache;
+
+import java.time.Duration;
+
+/**
+ * Cache tier shared by every application instance, e.g. Redis or Memcached.
+ * Values are exchanged as serialized bytes so any remote store can back it.
+ */
+public interface SharedCacheTier {
+
+    /**
+     * Serialized value for the key, or null when absent or expired
+     */
+    byte[] get(String cacheName, String key);
+
+    void put(String cacheName, String key, byte[] value, Duration ttl);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+}
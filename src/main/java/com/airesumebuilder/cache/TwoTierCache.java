@@ -0,0 +1,273 @@
+package com.airesumebuilder.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Spring cache with a local Caffeine near-cache in front of a shared tier.
+ * Reads check the near-cache, then the shared tier, then load. Writes go to both tiers.
+ * Evictions also broadcast an invalidation so other instances drop their near-cache copy.
+ *
+ * Features:
+ * - Per-instance near-cache bounded by the Caffeine spec
+ * - Shared tier holding JSON-serialized values with a TTL
+ * - Degrades to near-cache only when the shared tier is unavailable
+ * - Values read before a concurrent invalidation are returned but never cached
+ * - Concurrent misses on one key run the loader once; the other callers wait for its value
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCache.class);
+    private static final Duration INVALIDATION_STAMP_TTL = Duration.ofMinutes(5);
+    private static final int LOCK_STRIPES = 64;
+
+    private final String name;
+    private final Class<?> valueType;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache;
+    private final SharedCacheTier sharedTier;
+    private final CacheInvalidationBus invalidationBus;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final Duration sharedTtl;
+
+    // Invalidation stamps, used to detect values read before a concurrent invalidation
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private final com.github.benmanes.caffeine.cache.Cache<String, Long> invalidatedAt =
+            Caffeine.newBuilder().expireAfterWrite(INVALIDATION_STAMP_TTL).build();
+    private volatile long clearedAt;
+
+    // Per-key stripes keep "check stamp, then store" atomic with respect to evictions
+    private final Object[] keyLocks = new Object[LOCK_STRIPES];
+    private final ReadWriteLock clearLock = new ReentrantReadWriteLock();
+    // Separate stripes serialize loads per key without blocking evictions during a load.
+    // Locks rather than monitors, so virtual threads waiting on a slow load do not pin their carrier.
+    private final ReentrantLock[] loadLocks = new ReentrantLock[LOCK_STRIPES];
+
+    public TwoTierCache(String name, Class<?> valueType,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache,
+                        SharedCacheTier sharedTier, CacheInvalidationBus invalidationBus,
+                        ObjectMapper objectMapper, String nodeId, Duration sharedTtl) {
+        super(false);
+        this.name = name;
+        this.valueType = valueType;
+        this.nearCache = nearCache;
+        this.sharedTier = sharedTier;
+        this.invalidationBus = invalidationBus;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeId;
+        this.sharedTtl = sharedTtl;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            keyLocks[i] = new Object();
+            loadLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The local Caffeine cache, exposed for metrics
+     */
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<String, Object> getNativeCache() {
+        return nearCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = toCacheKey(key);
+        Object value = nearCache.getIfPresent(cacheKey);
+        if (value != null) {
+            return value;
+        }
+        long readStartedAt = invalidationSequence.get();
+        value = readShared(cacheKey);
+        if (value != null) {
+            Object sharedValue = value;
+            withKeyLock(cacheKey, () -> {
+                if (!invalidatedSince(cacheKey, readStartedAt)) {
+                    nearCache.put(cacheKey, sharedValue);
+                }
+            });
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        String cacheKey = toCacheKey(key);
+        ReentrantLock loadLock = loadLocks[stripe(cacheKey)];
+        loadLock.lock();
+        try {
+            // Another caller may have loaded the entry while this one waited
+            cached = get(key);
+            if (cached != null) {
+                return (T) cached.get();
+            }
+            long loadStartedAt = invalidationSequence.get();
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            withKeyLock(cacheKey, () -> {
+                // The entry changed while loading, so the loaded value may already be stale
+                if (invalidatedSince(cacheKey, loadStartedAt)) {
+                    log.debug("Not caching {} entry {} loaded during an invalidation", name, cacheKey);
+                } else {
+                    store(cacheKey, value);
+                }
+            });
+            return value;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Store the value in both tiers.
+     * Other instances are not notified: callers that change an existing entry must evict it.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = toCacheKey(key);
+        withKeyLock(cacheKey, () -> store(cacheKey, value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toCacheKey(key);
+        withKeyLock(cacheKey, () -> {
+            nearCache.invalidate(cacheKey);
+            removeShared(cacheKey);
+            markInvalidated(cacheKey);
+        });
+        invalidationBus.publish(new CacheInvalidationMessage(nodeId, name, cacheKey));
+    }
+
+    @Override
+    public void clear() {
+        clearLock.writeLock().lock();
+        try {
+            nearCache.invalidateAll();
+            try {
+                sharedTier.clear(name);
+            } catch (RuntimeException e) {
+                log.warn("Shared cache tier clear failed for {}: {}", name, e.getMessage());
+            }
+            clearedAt = invalidationSequence.incrementAndGet();
+        } finally {
+            clearLock.writeLock().unlock();
+        }
+        invalidationBus.publish(new CacheInvalidationMessage(nodeId, name, null));
+    }
+
+    /**
+     * Apply an invalidation sent by another instance.
+     * The shared entry is dropped again in case this instance stored a value it loaded
+     * before the change was committed.
+     */
+    void onInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.getOriginNodeId())) {
+            return;
+        }
+        if (message.isClear()) {
+            clearLock.writeLock().lock();
+            try {
+                nearCache.invalidateAll();
+                clearedAt = invalidationSequence.incrementAndGet();
+            } finally {
+                clearLock.writeLock().unlock();
+            }
+            return;
+        }
+        String cacheKey = message.getKey();
+        withKeyLock(cacheKey, () -> {
+            nearCache.invalidate(cacheKey);
+            removeShared(cacheKey);
+            markInvalidated(cacheKey);
+        });
+    }
+
+    private void store(String cacheKey, Object value) {
+        Object storeValue = toStoreValue(value);
+        nearCache.put(cacheKey, storeValue);
+        try {
+            sharedTier.put(name, cacheKey, objectMapper.writeValueAsBytes(storeValue), sharedTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} entry {} for the shared tier: {}", name, cacheKey, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Shared cache tier write failed for {} entry {}: {}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private void removeShared(String cacheKey) {
+        try {
+            sharedTier.evict(name, cacheKey);
+        } catch (RuntimeException e) {
+            log.warn("Shared cache tier evict failed for {} entry {}: {}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private void withKeyLock(String cacheKey, Runnable action) {
+        clearLock.readLock().lock();
+        try {
+            synchronized (keyLocks[stripe(cacheKey)]) {
+                action.run();
+            }
+        } finally {
+            clearLock.readLock().unlock();
+        }
+    }
+
+    private int stripe(String cacheKey) {
+        return Math.floorMod(cacheKey.hashCode(), LOCK_STRIPES);
+    }
+
+    private void markInvalidated(String cacheKey) {
+        invalidatedAt.put(cacheKey, invalidationSequence.incrementAndGet());
+    }
+
+    private boolean invalidatedSince(String cacheKey, long stamp) {
+        Long invalidated = invalidatedAt.getIfPresent(cacheKey);
+        return clearedAt > stamp || (invalidated != null && invalidated > stamp);
+    }
+
+    private Object readShared(String cacheKey) {
+        try {
+            byte[] serialized = sharedTier.get(name, cacheKey);
+            return serialized != null ? objectMapper.readValue(serialized, valueType) : null;
+        } catch (IOException e) {
+            log.warn("Dropping unreadable {} entry {} from the shared tier: {}", name, cacheKey, e.getMessage());
+            removeShared(cacheKey);
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("Shared cache tier read failed for {} entry {}: {}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private String toCacheKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,43 @@
+package com.airesumebuilder.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache manager for a fixed set of two-tier caches.
+ * Subscribes to the invalidation bus and routes messages from other instances
+ * to the matching cache.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final Map<String, TwoTierCache> caches = new LinkedHashMap<>();
+
+    public TwoTierCacheManager(List<TwoTierCache> caches, CacheInvalidationBus invalidationBus) {
+        for (TwoTierCache cache : caches) {
+            this.caches.put(cache.getName(), cache);
+        }
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        TwoTierCache cache = caches.get(message.getCacheName());
+        if (cache != null) {
+            cache.onInvalidation(message);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.airesumebuilder.config;
+
+import com.airesumebuilder.cache.CacheInvalidationBus;
+import com.airesumebuilder.cache.InMemoryCacheInvalidationBus;
+import com.airesumebuilder.cache.InMemorySharedCacheTier;
+import com.airesumebuilder.cache.PostgresCacheInvalidationBus;
+import com.airesumebuilder.cache.PostgresSharedCacheTier;
+import com.airesumebuilder.cache.SharedCacheTier;
+import com.airesumebuilder.cache.TwoTierCache;
+import com.airesumebuilder.cache.TwoTierCacheManager;
+import com.airesumebuilder.dto.ResumeDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration class for application caches.
+ * Every cache is a local Caffeine near-cache (spring.cache.caffeine.spec) in front of
+ * the shared tier selected by cache.tiers.shared-type:
+ * - in-memory: bounded tier and bus inside this JVM, for a single instance
+ * - postgres: UNLOGGED table and LISTEN/NOTIFY on the application database, for several instances
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheManagerConfig {
+
+    /**
+     * Cache names and the type of value each one holds
+     */
+    private static final Map<String, Class<?>> CACHE_VALUE_TYPES = new LinkedHashMap<>();
+
+    static {
+        CACHE_VALUE_TYPES.put("resumes", ResumeDTO.class);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.tiers", name = "shared-type", havingValue = "in-memory", matchIfMissing = true)
+    public SharedCacheTier inMemorySharedCacheTier(CacheTierConfig cacheTierConfig) {
+        return new InMemorySharedCacheTier(cacheTierConfig.getSharedMaxEntries());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.tiers", name = "shared-type", havingValue = "in-memory", matchIfMissing = true)
+    public CacheInvalidationBus inMemoryCacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "cache.tiers", name = "shared-type", havingValue = "postgres")
+    public PostgresSharedCacheTier postgresSharedCacheTier(JdbcTemplate jdbcTemplate, CacheTierConfig cacheTierConfig) {
+        return new PostgresSharedCacheTier(jdbcTemplate, cacheTierConfig.getSharedMaxEntries(),
+                cacheTierConfig.getSharedPurgeInterval());
+    }
+
+    /**
+     * The listening connection is opened outside the pool, so it never holds a pooled connection
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "cache.tiers", name = "shared-type", havingValue = "postgres")
+    public PostgresCacheInvalidationBus postgresCacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                                                     DataSourceProperties dataSourceProperties,
+                                                                     ObjectMapper objectMapper) {
+        return new PostgresCacheInvalidationBus(jdbcTemplate,
+                () -> DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+                objectMapper);
+    }
+
+    @Bean
+    public TwoTierCacheManager cacheManager(CacheProperties cacheProperties, CacheTierConfig cacheTierConfig,
+                                            SharedCacheTier sharedCacheTier, CacheInvalidationBus cacheInvalidationBus,
+                                            ObjectMapper objectMapper) {
+        String spec = cacheProperties.getCaffeine().getSpec();
+        List<TwoTierCache> caches = new ArrayList<>();
+        for (Map.Entry<String, Class<?>> entry : CACHE_VALUE_TYPES.entrySet()) {
+            Caffeine<Object, Object> builder = StringUtils.hasText(spec) ? Caffeine.from(spec) : Caffeine.newBuilder();
+            caches.add(new TwoTierCache(entry.getKey(), entry.getValue(), builder.build(),
+                    sharedCacheTier, cacheInvalidationBus, objectMapper,
+                    cacheTierConfig.getNodeId(), cacheTierConfig.getSharedTtl()));
+        }
+        return new TwoTierCacheManager(caches, cacheInvalidationBus);
+    }
+
+    /**
+     * Publish near-cache hit, miss and eviction statistics under the cache.* metrics
+     */
+    @Bean
+    public CacheMeterBinderProvider<TwoTierCache> twoTierCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+    }
+}
@@ -0,0 +1,50 @@
+package com.airesumebuilder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Configuration class for the two-tier resume cache.
+ * Maps properties with the cache.tiers prefix from application.properties file.
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.tiers")
+public class CacheTierConfig {
+
+    public static final String SHARED_TYPE_IN_MEMORY = "in-memory";
+    public static final String SHARED_TYPE_POSTGRES = "postgres";
+    private static final List<String> SHARED_TYPES = List.of(SHARED_TYPE_IN_MEMORY, SHARED_TYPE_POSTGRES);
+
+    private String nodeId = UUID.randomUUID().toString();
+    private String sharedType = SHARED_TYPE_IN_MEMORY;
+    private Duration sharedTtl = Duration.ofMinutes(30);
+    private long sharedMaxEntries = 10000;
+    private Duration sharedPurgeInterval = Duration.ofMinutes(1);
+
+    // Getters and Setters
+    public String getNodeId() { return nodeId; }
+    public void setNodeId(String nodeId) { this.nodeId = nodeId; }
+
+    public String getSharedType() { return sharedType; }
+    public void setSharedType(String sharedType) {
+        // Fail binding with the valid values rather than later with a missing bean
+        if (!SHARED_TYPES.contains(sharedType)) {
+            throw new IllegalArgumentException(
+                    "Unknown cache.tiers.shared-type '" + sharedType + "', expected one of " + SHARED_TYPES);
+        }
+        this.sharedType = sharedType;
+    }
+
+    public Duration getSharedTtl() { return sharedTtl; }
+    public void setSharedTtl(Duration sharedTtl) { this.sharedTtl = sharedTtl; }
+
+    public long getSharedMaxEntries() { return sharedMaxEntries; }
+    public void setSharedMaxEntries(long sharedMaxEntries) { this.sharedMaxEntries = sharedMaxEntries; }
+
+    public Duration getSharedPurgeInterval() { return sharedPurgeInterval; }
+    public void setSharedPurgeInterval(Duration sharedPurgeInterval) { this.sharedPurgeInterval = sharedPurgeInterval; }
+}
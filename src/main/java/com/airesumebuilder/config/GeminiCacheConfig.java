@@ -0,0 +1,40 @@
+package com.airesumebuilder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the Gemini response cache.
+ * Maps properties with the gemini.cache prefix from application.properties file.
+ */
+@Component
+@ConfigurationProperties(prefix = "gemini.cache")
+public class GeminiCacheConfig {
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofHours(24);
+    private int maxEntries = 1000;
+    private boolean diskEnabled = false;
+    private String diskDirectory = System.getProperty("java.io.tmpdir") + "/ai-resume-builder/gemini-cache";
+    private long diskMaxBytes = 64L * 1024 * 1024;
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getTtl() { return ttl; }
+    public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+    public int getMaxEntries() { return maxEntries; }
+    public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+
+    public boolean isDiskEnabled() { return diskEnabled; }
+    public void setDiskEnabled(boolean diskEnabled) { this.diskEnabled = diskEnabled; }
+
+    public String getDiskDirectory() { return diskDirectory; }
+    public void setDiskDirectory(String diskDirectory) { this.diskDirectory = diskDirectory; }
+
+    public long getDiskMaxBytes() { return diskMaxBytes; }
+    public void setDiskMaxBytes(long diskMaxBytes) { this.diskMaxBytes = diskMaxBytes; }
+}
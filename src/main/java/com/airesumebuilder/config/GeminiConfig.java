@@ -12,6 +12,10 @@ import org.springframework.stereotype.Component;
 public class GeminiConfig {
     private String key;
     private String endpoint;
+    private int connectTimeoutMs = 5000;
+    private int readTimeoutMs = 30000;
+    private int maxConnections = 50;
+    private int requestsPerMinute = 10;
 
     // Getters and Setters
     public String getKey() { return key; }
@@ -19,4 +23,16 @@ public class GeminiConfig {
 
     public String getEndpoint() { return endpoint; }
     public void setEndpoint(String endpoint) { this.endpoint = endpoint; }
+
+    public int getConnectTimeoutMs() { return connectTimeoutMs; }
+    public void setConnectTimeoutMs(int connectTimeoutMs) { this.connectTimeoutMs = connectTimeoutMs; }
+
+    public int getReadTimeoutMs() { return readTimeoutMs; }
+    public void setReadTimeoutMs(int readTimeoutMs) { this.readTimeoutMs = readTimeoutMs; }
+
+    public int getMaxConnections() { return maxConnections; }
+    public void setMaxConnections(int maxConnections) { this.maxConnections = maxConnections; }
+
+    public int getRequestsPerMinute() { return requestsPerMinute; }
+    public void setRequestsPerMinute(int requestsPerMinute) { this.requestsPerMinute = requestsPerMinute; }
 }
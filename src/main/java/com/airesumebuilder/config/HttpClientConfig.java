@@ -1,9 +1,16 @@
 package com.airesumebuilder.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 /**
  * Configuration class for HTTP clients and bean definitions.
@@ -16,15 +23,31 @@ public class HttpClientConfig {
      * Create RestTemplate bean for synchronous HTTP calls
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(GeminiConfig geminiConfig) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(geminiConfig.getConnectTimeoutMs());
+        requestFactory.setReadTimeout(geminiConfig.getReadTimeoutMs());
+        return new RestTemplate(requestFactory);
     }
 
     /**
-     * Create WebClient bean for asynchronous HTTP calls
+     * Create WebClient bean for asynchronous HTTP calls.
+     * Uses a pooled, non-blocking Reactor Netty client with connect and response timeouts.
      */
     @Bean
-    public WebClient webClient() {
-        return WebClient.create();
+    public WebClient webClient(GeminiConfig geminiConfig) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("gemini")
+                .maxConnections(geminiConfig.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(geminiConfig.getConnectTimeoutMs()))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, geminiConfig.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(geminiConfig.getReadTimeoutMs()));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 }
@@ -0,0 +1,38 @@
+package com.airesumebuilder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration class for the generated PDF cache.
+ * Maps properties with the pdf.cache prefix from application.properties file.
+ */
+@Component
+@ConfigurationProperties(prefix = "pdf.cache")
+public class PdfCacheConfig {
+    private boolean enabled = true;
+    private long maxBytes = 64L * 1024 * 1024;
+    private long maxEntryBytes = 2L * 1024 * 1024;
+    private boolean diskEnabled = false;
+    private String diskDirectory = System.getProperty("java.io.tmpdir") + "/ai-resume-builder/pdf-cache";
+    private long diskMaxBytes = 512L * 1024 * 1024;
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getMaxBytes() { return maxBytes; }
+    public void setMaxBytes(long maxBytes) { this.maxBytes = maxBytes; }
+
+    public long getMaxEntryBytes() { return maxEntryBytes; }
+    public void setMaxEntryBytes(long maxEntryBytes) { this.maxEntryBytes = maxEntryBytes; }
+
+    public boolean isDiskEnabled() { return diskEnabled; }
+    public void setDiskEnabled(boolean diskEnabled) { this.diskEnabled = diskEnabled; }
+
+    public String getDiskDirectory() { return diskDirectory; }
+    public void setDiskDirectory(String diskDirectory) { this.diskDirectory = diskDirectory; }
+
+    public long getDiskMaxBytes() { return diskMaxBytes; }
+    public void setDiskMaxBytes(long diskMaxBytes) { this.diskMaxBytes = diskMaxBytes; }
+}
@@ -0,0 +1,37 @@
+package com.airesumebuilder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for bulk PDF export.
+ * Maps properties with the pdf.export prefix from application.properties file.
+ */
+@Component
+@ConfigurationProperties(prefix = "pdf.export")
+public class PdfExportConfig {
+    private int maxResumes = 1000;
+    private int maxInFlight = 4;
+    private int slotWaitSeconds = 60;
+    private String engine = "layout";
+    private Map<String, String> templateEngines = new HashMap<>();
+
+    // Getters and Setters
+    public int getMaxResumes() { return maxResumes; }
+    public void setMaxResumes(int maxResumes) { this.maxResumes = maxResumes; }
+
+    public int getMaxInFlight() { return maxInFlight; }
+    public void setMaxInFlight(int maxInFlight) { this.maxInFlight = maxInFlight; }
+
+    public int getSlotWaitSeconds() { return slotWaitSeconds; }
+    public void setSlotWaitSeconds(int slotWaitSeconds) { this.slotWaitSeconds = slotWaitSeconds; }
+
+    public String getEngine() { return engine; }
+    public void setEngine(String engine) { this.engine = engine; }
+
+    public Map<String, String> getTemplateEngines() { return templateEngines; }
+    public void setTemplateEngines(Map<String, String> templateEngines) { this.templateEngines = templateEngines; }
+}
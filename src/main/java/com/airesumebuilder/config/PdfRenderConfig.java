@@ -0,0 +1,37 @@
+package com.airesumebuilder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for single resume PDF downloads and the rendering worker pool.
+ * Maps properties with the pdf.render prefix from application.properties file.
+ */
+@Component
+@ConfigurationProperties(prefix = "pdf.render")
+public class PdfRenderConfig {
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 32;
+    private int retryAfterSeconds = 5;
+    private String engine = "html";
+    private Map<String, String> templateEngines = new HashMap<>();
+
+    // Getters and Setters
+    public int getPoolSize() { return poolSize; }
+    public void setPoolSize(int poolSize) { this.poolSize = poolSize; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getRetryAfterSeconds() { return retryAfterSeconds; }
+    public void setRetryAfterSeconds(int retryAfterSeconds) { this.retryAfterSeconds = retryAfterSeconds; }
+
+    public String getEngine() { return engine; }
+    public void setEngine(String engine) { this.engine = engine; }
+
+    public Map<String, String> getTemplateEngines() { return templateEngines; }
+    public void setTemplateEngines(Map<String, String> templateEngines) { this.templateEngines = templateEngines; }
+}
@@ -0,0 +1,26 @@
+package com.airesumebuilder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration class for bulk resume import.
+ * Maps properties with the resume.import prefix from application.properties file.
+ */
+@Component
+@ConfigurationProperties(prefix = "resume.import")
+public class ResumeImportConfig {
+    private int batchSize = 500;
+    private int maxRecords = 100000;
+    private int maxReportedErrors = 1000;
+
+    // Getters and Setters
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getMaxRecords() { return maxRecords; }
+    public void setMaxRecords(int maxRecords) { this.maxRecords = maxRecords; }
+
+    public int getMaxReportedErrors() { return maxReportedErrors; }
+    public void setMaxReportedErrors(int maxReportedErrors) { this.maxReportedErrors = maxReportedErrors; }
+}
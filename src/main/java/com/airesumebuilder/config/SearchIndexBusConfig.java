@@ -0,0 +1,43 @@
+package com.airesumebuilder.config;
+
+import com.airesumebuilder.search.InMemorySearchIndexUpdateBus;
+import com.airesumebuilder.search.PostgresSearchIndexUpdateBus;
+import com.airesumebuilder.search.SearchIndexUpdateBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DriverManager;
+
+/**
+ * Configuration class for the bus that keeps search indexes of several instances in step.
+ * Follows cache.tiers.shared-type, which says whether instances share state:
+ * - in-memory: bus inside this JVM, for a single instance
+ * - postgres: LISTEN/NOTIFY on the application database, for several instances
+ */
+@Configuration
+public class SearchIndexBusConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.tiers", name = "shared-type", havingValue = "in-memory", matchIfMissing = true)
+    public SearchIndexUpdateBus inMemorySearchIndexUpdateBus() {
+        return new InMemorySearchIndexUpdateBus();
+    }
+
+    /**
+     * The listening connection is opened outside the pool, so it never holds a pooled connection
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "cache.tiers", name = "shared-type", havingValue = "postgres")
+    public PostgresSearchIndexUpdateBus postgresSearchIndexUpdateBus(JdbcTemplate jdbcTemplate,
+                                                                     DataSourceProperties dataSourceProperties,
+                                                                     ObjectMapper objectMapper) {
+        return new PostgresSearchIndexUpdateBus(jdbcTemplate,
+                () -> DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+                objectMapper);
+    }
+}
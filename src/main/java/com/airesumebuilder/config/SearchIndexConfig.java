@@ -0,0 +1,38 @@
+package com.airesumebuilder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration class for the embedded resume search index.
+ * Maps properties with the search.index prefix from application.properties file.
+ */
+@Component
+@ConfigurationProperties(prefix = "search.index")
+public class SearchIndexConfig {
+    private boolean enabled = true;
+    private String directory = "";
+    private boolean rebuildOnStartup = true;
+    private int rebuildBatchSize = 500;
+    private int updateBatchSize = 500;
+    private int maxResults = 100;
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getDirectory() { return directory; }
+    public void setDirectory(String directory) { this.directory = directory; }
+
+    public boolean isRebuildOnStartup() { return rebuildOnStartup; }
+    public void setRebuildOnStartup(boolean rebuildOnStartup) { this.rebuildOnStartup = rebuildOnStartup; }
+
+    public int getRebuildBatchSize() { return rebuildBatchSize; }
+    public void setRebuildBatchSize(int rebuildBatchSize) { this.rebuildBatchSize = rebuildBatchSize; }
+
+    public int getUpdateBatchSize() { return updateBatchSize; }
+    public void setUpdateBatchSize(int updateBatchSize) { this.updateBatchSize = updateBatchSize; }
+
+    public int getMaxResults() { return maxResults; }
+    public void setMaxResults(int maxResults) { this.maxResults = maxResults; }
+}
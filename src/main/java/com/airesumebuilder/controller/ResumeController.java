@@ -2,8 +2,19 @@ package com.airesumebuilder.controller;
 
 import com.airesumebuilder.dto.ApiResponse;
 import com.airesumebuilder.dto.EnhancementRequestDTO;
+import com.airesumebuilder.dto.ResumeImportResultDTO;
 import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.dto.ResumePageDTO;
+import com.airesumebuilder.dto.ResumeSearchHitDTO;
+import com.airesumebuilder.exception.InvalidResumeDataException;
+import com.airesumebuilder.exception.PdfRenderCapacityExceededException;
+import com.airesumebuilder.exception.ResumeVersionMismatchException;
+import com.airesumebuilder.service.PdfBuffer;
+import com.airesumebuilder.service.PreparedPdf;
+import com.airesumebuilder.service.ResumeExportService;
+import com.airesumebuilder.service.ResumeImportService;
 import com.airesumebuilder.service.ResumeService;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -12,10 +23,19 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * REST Controller for Resume API endpoints.
@@ -23,11 +43,17 @@ import org.springframework.web.bind.annotation.*;
  *
  * Endpoints:
  * - POST /api/resume/submit → Create and save resume
+ * - POST /api/resume/import → Bulk import resumes from JSON lines or CSV
+ * - GET /api/resume → List resumes (keyset pagination)
+ * - GET /api/resume/search → Ranked full-text search over skills and projects
  * - GET /api/resume/{id} → Retrieve resume by ID
  * - PUT /api/resume/{id} → Update resume
+ * - PATCH /api/resume/{id} → Partially update resume (JSON Merge Patch)
  * - POST /api/resume/{id}/enhance → Enhance resume with AI
  * - POST /api/resume/{id}/score → Calculate resume score
  * - GET /api/resume/{id}/pdf → Generate and download PDF
+ * - POST /api/resume/export → Download the PDFs of many resumes as one ZIP
+ * - POST /api/resume/book → Download many resumes as one bookmarked PDF
  * - DELETE /api/resume/{id} → Delete resume
  */
 @RestController
@@ -37,10 +63,17 @@ import org.springframework.web.bind.annotation.*;
 public class ResumeController {
 
     private static final Logger log = LoggerFactory.getLogger(ResumeController.class);
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
 
     @Autowired
     private ResumeService resumeService;
 
+    @Autowired
+    private ResumeImportService resumeImportService;
+
+    @Autowired
+    private ResumeExportService resumeExportService;
+
     /**
      * POST /api/resume/submit
      * Create and save a new resume
@@ -71,6 +104,105 @@ public class ResumeController {
         }
     }
 
+    /**
+     * POST /api/resume/import
+     * Bulk import resumes from a JSON-lines or CSV request body
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "application/jsonl", "text/csv"})
+    @Operation(
+        summary = "Bulk import resumes",
+        description = "Streams the request body record by record and saves valid resumes in batches. " +
+                "Send one resume JSON object per line as application/x-ndjson, or CSV with a header row as text/csv " +
+                "(columns: firstName, lastName, email, phone, location, careerObjective, professionalSummary, " +
+                "template, degree, university, fieldOfStudy, graduationYear, cgpa, skills separated by ';'). " +
+                "Invalid records are skipped and listed in the response."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Import finished, see counts and errors"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Unreadable upload or unknown CSV columns")
+    })
+    public ResponseEntity<ApiResponse<ResumeImportResultDTO>> importResumes(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        try {
+            ResumeImportResultDTO result =
+                    resumeImportService.importResumes(body, ResumeImportService.Format.fromContentType(contentType));
+            return ResponseEntity.ok(
+                ApiResponse.success("Imported " + result.getImported() + " of " + result.getReceived() + " resumes", result)
+            );
+        } catch (Exception e) {
+            log.error("Error importing resumes: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to import resumes", e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /api/resume
+     * List resume summaries newest first, with keyset pagination
+     */
+    @GetMapping
+    @Operation(
+        summary = "List resumes",
+        description = "Lists resume summaries newest first without their sections. " +
+                "Pass nextCursor from the previous page as cursor to fetch the next page."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Page of resumes"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<ApiResponse<ResumePageDTO>> listResumes(
+            @Parameter(description = "Text to match against name and email")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Only resumes using this template")
+            @RequestParam(required = false) String template,
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most 100")
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            ResumePageDTO page = resumeService.listResumes(q, template, cursor, size);
+            return ResponseEntity.ok(
+                ApiResponse.success("Resumes retrieved successfully", page)
+            );
+        } catch (Exception e) {
+            log.error("Error listing resumes: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to list resumes", e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /api/resume/search
+     * Ranked full-text search over resume skills, projects and summaries
+     */
+    @GetMapping("/search")
+    @Operation(
+        summary = "Search resumes",
+        description = "Ranks resumes by how well their skills, project technologies, names and summaries " +
+                "match the query. Skill matches weigh most."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Matching resumes, best first"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Missing query or search disabled")
+    })
+    public ResponseEntity<ApiResponse<List<ResumeSearchHitDTO>>> searchResumes(
+            @Parameter(description = "Search text, e.g. \"java spring kafka\"", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results")
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            List<ResumeSearchHitDTO> hits = resumeService.searchResumes(q, limit);
+            return ResponseEntity.ok(
+                ApiResponse.success("Found " + hits.size() + " matching resumes", hits)
+            );
+        } catch (Exception e) {
+            log.error("Error searching resumes: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to search resumes", e.getMessage()));
+        }
+    }
+
     /**
      * GET /api/resume/{id}
      * Retrieve resume by ID
@@ -82,17 +214,25 @@ public class ResumeController {
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Resume found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Resume unchanged since the given ETag"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Resume not found")
     })
     public ResponseEntity<ApiResponse<ResumeDTO>> getResume(
             @Parameter(description = "Resume ID", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = "ETag of the copy the client already has")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             log.info("Retrieving resume with ID: {}", id);
             ResumeDTO resume = resumeService.getResumeById(id);
-            return ResponseEntity.ok(
-                ApiResponse.success("Resume retrieved successfully", resume)
-            );
+            String eTag = resumeETag(resume);
+            if (eTagMatches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("Resume retrieved successfully", resume));
         } catch (Exception e) {
             log.error("Error retrieving resume: {}", e.getMessage(), e);
             return ResponseEntity.badRequest()
@@ -112,19 +252,25 @@ public class ResumeController {
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Resume updated successfully"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Resume not found"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid resume data")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid resume data"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Resume was modified concurrently"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "Resume changed since the If-Match ETag")
     })
     public ResponseEntity<ApiResponse<ResumeDTO>> updateResume(
             @Parameter(description = "Resume ID", required = true)
             @PathVariable Long id,
             @Parameter(description = "Updated resume data", required = true)
-            @Valid @RequestBody ResumeDTO resumeDTO) {
+            @Valid @RequestBody ResumeDTO resumeDTO,
+            @Parameter(description = "ETag the update was based on; the update is rejected if the resume changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
             log.info("Updating resume with ID: {}", id);
-            ResumeDTO updatedResume = resumeService.updateResume(id, resumeDTO);
-            return ResponseEntity.ok(
-                ApiResponse.success("Resume updated successfully", updatedResume)
-            );
+            ResumeDTO updatedResume = resumeService.updateResume(id, resumeDTO, expectedVersion(ifMatch));
+            return ResponseEntity.ok()
+                .eTag(resumeETag(updatedResume))
+                .body(ApiResponse.success("Resume updated successfully", updatedResume));
+        } catch (ResumeVersionMismatchException | ObjectOptimisticLockingFailureException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error updating resume: {}", e.getMessage(), e);
             return ResponseEntity.badRequest()
@@ -132,9 +278,49 @@ public class ResumeController {
         }
     }
 
+    /**
+     * PATCH /api/resume/{id}
+     * Partially update an existing resume with a JSON Merge Patch (RFC 7386)
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+        summary = "Partially update resume",
+        description = "Applies a JSON Merge Patch. Only the fields sent are validated and saved. " +
+                "Section elements are matched by ID, and an element such as {\"id\": 7} is kept unchanged."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Resume updated successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Resume not found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid patch"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Resume was modified concurrently"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "Resume changed since the If-Match ETag")
+    })
+    public ResponseEntity<ApiResponse<ResumeDTO>> patchResume(
+            @Parameter(description = "Resume ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Merge patch with the changed fields", required = true)
+            @RequestBody JsonNode patch,
+            @Parameter(description = "ETag the patch was based on; the patch is rejected if the resume changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            log.info("Patching resume with ID: {}", id);
+            ResumeDTO updatedResume = resumeService.patchResume(id, patch, expectedVersion(ifMatch));
+            return ResponseEntity.ok()
+                .eTag(resumeETag(updatedResume))
+                .body(ApiResponse.success("Resume updated successfully", updatedResume));
+        } catch (ResumeVersionMismatchException | ObjectOptimisticLockingFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error patching resume: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to update resume", e.getMessage()));
+        }
+    }
+
     /**
      * POST /api/resume/{id}/enhance
-     * Enhance resume using Gemini AI
+     * Enhance resume using Gemini AI.
+     * Runs asynchronously so the servlet thread is released during the AI call.
      */
     @PostMapping("/{id}/enhance")
     @Operation(
@@ -147,27 +333,33 @@ public class ResumeController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "Rate limit exceeded - max 10 requests per minute"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "AI service unavailable")
     })
-    public ResponseEntity<ApiResponse<ResumeDTO>> enhanceResume(
+    public CompletableFuture<ResponseEntity<ApiResponse<ResumeDTO>>> enhanceResume(
             @Parameter(description = "Resume ID", required = true)
             @PathVariable Long id,
             @Parameter(description = "Content to enhance", required = true)
             @RequestBody EnhancementRequestDTO request) {
-        try {
-            log.info("Enhancing resume with ID: {}", id);
-            ResumeDTO enhancedResume = resumeService.enhanceResume(id, request);
-            return ResponseEntity.ok(
-                ApiResponse.success("Resume enhanced successfully with AI", enhancedResume)
-            );
-        } catch (Exception e) {
-            log.error("Error enhancing resume: {}", e.getMessage(), e);
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to enhance resume", e.getMessage()));
-        }
+        log.info("Enhancing resume with ID: {}", id);
+        return resumeService.enhanceResumeAsync(id, request)
+                .thenApply(enhancedResume -> ResponseEntity.ok(
+                    ApiResponse.success("Resume enhanced successfully with AI", enhancedResume)
+                ))
+                .exceptionally(e -> {
+                    Throwable cause = unwrap(e);
+                    if (cause instanceof ObjectOptimisticLockingFailureException) {
+                        log.warn("Concurrent update of resume ID: {}", id);
+                        return ResponseEntity.status(HttpStatus.CONFLICT)
+                            .body(ApiResponse.error("Resume was modified concurrently", cause.getMessage()));
+                    }
+                    log.error("Error enhancing resume: {}", cause.getMessage(), cause);
+                    return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("Failed to enhance resume", cause.getMessage()));
+                });
     }
 
     /**
      * POST /api/resume/{id}/score
-     * Calculate resume score using Gemini AI
+     * Calculate resume score using Gemini AI.
+     * Runs asynchronously so the servlet thread is released during the AI call.
      */
     @PostMapping("/{id}/score")
     @Operation(
@@ -180,27 +372,34 @@ public class ResumeController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "Rate limit exceeded"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "AI service unavailable")
     })
-    public ResponseEntity<ApiResponse<ResumeDTO>> calculateScore(
+    public CompletableFuture<ResponseEntity<ApiResponse<ResumeDTO>>> calculateScore(
             @Parameter(description = "Resume ID", required = true)
             @PathVariable Long id,
             @Parameter(description = "Resume content to score", required = true)
             @RequestBody EnhancementRequestDTO request) {
-        try {
-            log.info("Calculating score for resume with ID: {}", id);
-            ResumeDTO scoredResume = resumeService.calculateResumeScore(id, request);
-            return ResponseEntity.ok(
-                ApiResponse.success("Resume score calculated successfully", scoredResume)
-            );
-        } catch (Exception e) {
-            log.error("Error calculating resume score: {}", e.getMessage(), e);
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to calculate resume score", e.getMessage()));
-        }
+        log.info("Calculating score for resume with ID: {}", id);
+        return resumeService.calculateResumeScoreAsync(id, request)
+                .thenApply(scoredResume -> ResponseEntity.ok(
+                    ApiResponse.success("Resume score calculated successfully", scoredResume)
+                ))
+                .exceptionally(e -> {
+                    Throwable cause = unwrap(e);
+                    if (cause instanceof ObjectOptimisticLockingFailureException) {
+                        log.warn("Concurrent update of resume ID: {}", id);
+                        return ResponseEntity.status(HttpStatus.CONFLICT)
+                            .body(ApiResponse.error("Resume was modified concurrently", cause.getMessage()));
+                    }
+                    log.error("Error calculating resume score: {}", cause.getMessage(), cause);
+                    return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("Failed to calculate resume score", cause.getMessage()));
+                });
     }
 
     /**
      * GET /api/resume/{id}/pdf
-     * Generate and download resume as PDF
+     * Generate and download resume as PDF.
+     * Fresh renders finish, and give back their render slot, before the response is
+     * returned; the request thread then copies the buffered PDF to the client.
      */
     @GetMapping("/{id}/pdf")
     @Operation(
@@ -209,26 +408,123 @@ public class ResumeController {
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "PDF generated successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "PDF unchanged since the given ETag"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Resume not found"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "PDF generation failed")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "PDF generation failed"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "PDF rendering at capacity, retry later")
     })
-    public ResponseEntity<byte[]> downloadPdf(
+    public ResponseEntity<StreamingResponseBody> downloadPdf(
             @Parameter(description = "Resume ID", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = "ETag of the PDF the client already has")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            // The version comes from the resume cache, so an unchanged PDF costs no query or render
+            String eTag = pdfETag(resumeService.getResumeById(id));
+            if (eTagMatches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+
             log.info("Generating PDF for resume with ID: {}", id);
-            byte[] pdfBytes = resumeService.generateResumePdf(id);
+            PreparedPdf preparedPdf = resumeService.prepareResumePdf(id);
 
-            return ResponseEntity.ok()
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"resume_" + id + ".pdf\"")
-                    .contentType(MediaType.APPLICATION_PDF)
-                    .body(pdfBytes);
+                    .contentType(MediaType.APPLICATION_PDF);
+
+            if (preparedPdf.isCached()) {
+                byte[] pdfBytes = preparedPdf.getCachedBytes();
+                return response.contentLength(pdfBytes.length)
+                        .body(outputStream -> outputStream.write(pdfBytes));
+            }
+
+            // Copied straight from the render buffer, whether it stayed in memory or spilled to disk
+            PdfBuffer pdfBuffer = resumeService.renderResumePdf(preparedPdf);
+            return response.contentLength(pdfBuffer.size())
+                    .body(outputStream -> {
+                        try {
+                            pdfBuffer.writeTo(outputStream);
+                        } finally {
+                            pdfBuffer.discard();
+                        }
+                    });
+        } catch (PdfRenderCapacityExceededException e) {
+            log.warn("PDF rendering saturated for resume ID: {}", id);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .build();
         } catch (Exception e) {
             log.error("Error generating PDF: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * POST /api/resume/export
+     * Download the PDFs of many resumes as one ZIP, streamed as renders finish
+     */
+    @PostMapping("/export")
+    @Operation(
+        summary = "Export resumes as a ZIP of PDFs",
+        description = "Renders the listed resumes in parallel and streams each PDF into the ZIP as soon as it is ready. " +
+                "Resumes that cannot be exported are listed in an errors.txt entry."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "ZIP stream of PDFs"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+    })
+    public ResponseEntity<StreamingResponseBody> exportPdfs(
+            @Parameter(description = "IDs of the resumes to export", required = true)
+            @RequestBody List<Long> ids) {
+        try {
+            List<Long> resumeIds = resumeExportService.validateExport(ids);
+            log.info("Exporting {} resumes as ZIP", resumeIds.size());
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"resumes.zip\"")
+                    .contentType(MediaType.parseMediaType("application/zip"))
+                    .body(outputStream -> resumeExportService.writeZip(resumeIds, outputStream));
+        } catch (InvalidResumeDataException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error exporting resumes: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * POST /api/resume/book
+     * Download many resumes as one PDF with a bookmark per resume
+     */
+    @PostMapping("/book")
+    @Operation(
+        summary = "Export resumes as one PDF book",
+        description = "Lays out the listed resumes, in the given order, into a single PDF. " +
+                "Each resume starts on a new page and has its own bookmark; fonts are embedded once for the whole book."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "PDF book"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+    })
+    public ResponseEntity<StreamingResponseBody> exportBook(
+            @Parameter(description = "IDs of the resumes to include, in book order", required = true)
+            @RequestBody List<Long> ids) {
+        try {
+            List<Long> resumeIds = resumeExportService.validateExport(ids);
+            log.info("Building resume book with {} resumes", resumeIds.size());
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"resume_book.pdf\"")
+                    .contentType(MediaType.APPLICATION_PDF)
+                    .body(outputStream -> resumeExportService.writeBook(resumeIds, outputStream));
+        } catch (InvalidResumeDataException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error building resume book: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * DELETE /api/resume/{id}
      * Delete a resume
@@ -257,4 +553,66 @@ public class ResumeController {
                 .body(ApiResponse.error("Failed to delete resume", e.getMessage()));
         }
     }
+
+    /**
+     * ETag of a resume, derived from its version
+     */
+    private String resumeETag(ResumeDTO resume) {
+        return "\"" + resume.getVersion() + "\"";
+    }
+
+    /**
+     * ETag of the PDF of a resume. Differs from the resume ETag so the two are never confused.
+     */
+    private String pdfETag(ResumeDTO resume) {
+        return "\"pdf-" + resume.getVersion() + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header matches the current ETag, using weak comparison
+     */
+    private boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || eTag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Version named by an If-Match header, or null when the update is unconditional.
+     * Anything that is not a strong resume ETag can never match.
+     */
+    private Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Strip the CompletionException wrapper added by CompletableFuture stages
+     */
+    private Throwable unwrap(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
 }
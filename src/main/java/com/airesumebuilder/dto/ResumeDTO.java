@@ -45,6 +45,9 @@ public class ResumeDTO {
     private String resumeScoreFeedback;
     private String template;
 
+    // Read-only, used as the ETag of the resume
+    private Long version;
+
     @Valid
     private List<Education> educations;
     
@@ -86,6 +89,7 @@ public class ResumeDTO {
         dto.setResumeScore(resume.getResumeScore());
         dto.setResumeScoreFeedback(resume.getResumeScoreFeedback());
         dto.setTemplate(resume.getTemplate());
+        dto.setVersion(resume.getVersion());
         dto.setEducations(resume.getEducations());
         dto.setProjects(resume.getProjects());
         dto.setSkills(resume.getSkills());
@@ -166,6 +170,9 @@ public class ResumeDTO {
     public String getTemplate() { return template; }
     public void setTemplate(String template) { this.template = template; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public List<Education> getEducations() { return educations; }
     public void setEducations(List<Education> educations) { this.educations = educations; }
 
@@ -0,0 +1,32 @@
+package com.airesumebuilder.dto;
+
+/**
+ * A record rejected during bulk import.
+ * Records are numbered from 1 in upload order, not counting a CSV header.
+ */
+public class ResumeImportErrorDTO {
+
+    private long record;
+    private String email;
+    private String message;
+
+    // Constructors
+    public ResumeImportErrorDTO() {
+    }
+
+    public ResumeImportErrorDTO(long record, String email, String message) {
+        this.record = record;
+        this.email = email;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public long getRecord() { return record; }
+    public void setRecord(long record) { this.record = record; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
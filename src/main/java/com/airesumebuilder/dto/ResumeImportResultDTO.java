@@ -0,0 +1,45 @@
+package com.airesumebuilder.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk resume import.
+ * The error list is capped; errorsTruncated tells whether failures were left out of it.
+ */
+public class ResumeImportResultDTO {
+
+    private long received;
+    private long imported;
+    private long failed;
+    private List<ResumeImportErrorDTO> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    private long durationMs;
+    private double recordsPerSecond;
+
+    // Constructors
+    public ResumeImportResultDTO() {
+    }
+
+    // Getters and Setters
+    public long getReceived() { return received; }
+    public void setReceived(long received) { this.received = received; }
+
+    public long getImported() { return imported; }
+    public void setImported(long imported) { this.imported = imported; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public List<ResumeImportErrorDTO> getErrors() { return errors; }
+    public void setErrors(List<ResumeImportErrorDTO> errors) { this.errors = errors; }
+
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+
+    public double getRecordsPerSecond() { return recordsPerSecond; }
+    public void setRecordsPerSecond(double recordsPerSecond) { this.recordsPerSecond = recordsPerSecond; }
+}
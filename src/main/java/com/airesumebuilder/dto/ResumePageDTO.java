@@ -0,0 +1,30 @@
+package com.airesumebuilder.dto;
+
+import java.util.List;
+
+/**
+ * One page of a resume listing.
+ * Pass nextCursor back as the cursor parameter to fetch the following page;
+ * it is null on the last page.
+ */
+public class ResumePageDTO {
+
+    private List<ResumeSummaryDTO> items;
+    private String nextCursor;
+
+    // Constructors
+    public ResumePageDTO() {
+    }
+
+    public ResumePageDTO(List<ResumeSummaryDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<ResumeSummaryDTO> getItems() { return items; }
+    public void setItems(List<ResumeSummaryDTO> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,42 @@
+package com.airesumebuilder.dto;
+
+/**
+ * One ranked result of a resume search.
+ * Built from the search index alone, without a database query.
+ */
+public class ResumeSearchHitDTO {
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private float score;
+
+    // Constructors
+    public ResumeSearchHitDTO() {
+    }
+
+    public ResumeSearchHitDTO(Long id, String firstName, String lastName, String email, float score) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public float getScore() { return score; }
+    public void setScore(float score) { this.score = score; }
+}
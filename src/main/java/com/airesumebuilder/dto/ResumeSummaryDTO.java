@@ -0,0 +1,65 @@
+package com.airesumebuilder.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight DTO for resume listings.
+ * Built directly from resume_data columns, so no section collection is ever loaded.
+ */
+public class ResumeSummaryDTO {
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String location;
+    private String template;
+    private Double resumeScore;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ResumeSummaryDTO() {
+    }
+
+    public ResumeSummaryDTO(Long id, String firstName, String lastName, String email, String location,
+                            String template, Double resumeScore, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.location = location;
+        this.template = template;
+        this.resumeScore = resumeScore;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public String getTemplate() { return template; }
+    public void setTemplate(String template) { this.template = template; }
+
+    public Double getResumeScore() { return resumeScore; }
+    public void setResumeScore(Double resumeScore) { this.resumeScore = resumeScore; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
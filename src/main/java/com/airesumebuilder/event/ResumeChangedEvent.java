@@ -0,0 +1,26 @@
+package com.airesumebuilder.event;
+
+/**
+ * Published after a transaction that created, modified or deleted a resume commits.
+ * Changes to any section of a resume are reported as an update of the resume.
+ */
+public class ResumeChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Long resumeId;
+    private final Type type;
+
+    public ResumeChangedEvent(Long resumeId, Type type) {
+        this.resumeId = resumeId;
+        this.type = type;
+    }
+
+    // Getters
+    public Long getResumeId() { return resumeId; }
+    public Type getType() { return type; }
+}
@@ -0,0 +1,110 @@
+package com.airesumebuilder.event;
+
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.ResumeSection;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JPA entity listener for ResumeData and its section entities.
+ * Collects every resume touched by a transaction and publishes one ResumeChangedEvent
+ * per resume once the transaction has committed, so listeners never act on changes
+ * that are later rolled back, followed by one ResumesChangedEvent covering them all.
+ * Outside a transaction the events are published immediately.
+ *
+ * Hibernate obtains this listener from the Spring context, which injects the publisher.
+ */
+@Component
+public class ResumeEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        record(entity, entity instanceof ResumeData ? ResumeChangedEvent.Type.CREATED : ResumeChangedEvent.Type.UPDATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        record(entity, ResumeChangedEvent.Type.UPDATED);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        record(entity, entity instanceof ResumeData ? ResumeChangedEvent.Type.DELETED : ResumeChangedEvent.Type.UPDATED);
+    }
+
+    private void record(Object entity, ResumeChangedEvent.Type type) {
+        Long resumeId = resumeIdOf(entity);
+        if (resumeId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(new ResumeChangedEvent(resumeId, type));
+            eventPublisher.publishEvent(new ResumesChangedEvent(Map.of(resumeId, type)));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(PendingChanges.class);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(PendingChanges.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.merge(resumeId, type);
+    }
+
+    private Long resumeIdOf(Object entity) {
+        if (entity instanceof ResumeData resume) {
+            return resume.getId();
+        }
+        if (entity instanceof ResumeSection section && section.getResume() != null) {
+            return section.getResume().getId();
+        }
+        return null;
+    }
+
+    /**
+     * Resumes changed by the current transaction, keyed by id
+     */
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final Map<Long, ResumeChangedEvent.Type> changes = new LinkedHashMap<>();
+
+        /**
+         * Keep the most significant change: a delete wins, and a resume created in
+         * this transaction stays created even if its sections were written afterwards
+         */
+        void merge(Long resumeId, ResumeChangedEvent.Type type) {
+            changes.merge(resumeId, type, (previous, next) -> {
+                if (previous == ResumeChangedEvent.Type.DELETED || next == ResumeChangedEvent.Type.DELETED) {
+                    return ResumeChangedEvent.Type.DELETED;
+                }
+                if (previous == ResumeChangedEvent.Type.CREATED || next == ResumeChangedEvent.Type.CREATED) {
+                    return ResumeChangedEvent.Type.CREATED;
+                }
+                return ResumeChangedEvent.Type.UPDATED;
+            });
+        }
+
+        @Override
+        public void afterCommit() {
+            changes.forEach((resumeId, type) -> eventPublisher.publishEvent(new ResumeChangedEvent(resumeId, type)));
+            eventPublisher.publishEvent(new ResumesChangedEvent(changes));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingChanges.class);
+        }
+    }
+}
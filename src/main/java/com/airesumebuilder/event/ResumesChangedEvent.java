@@ -0,0 +1,24 @@
+package com.airesumebuilder.event;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Published once after a transaction that changed resumes commits, listing all of them.
+ * Sent alongside the per-resume ResumeChangedEvents for listeners that handle changes
+ * in bulk, such as a bulk import that commits hundreds of resumes at once.
+ */
+public class ResumesChangedEvent {
+
+    private final Map<Long, ResumeChangedEvent.Type> changes;
+
+    public ResumesChangedEvent(Map<Long, ResumeChangedEvent.Type> changes) {
+        this.changes = Collections.unmodifiableMap(new LinkedHashMap<>(changes));
+    }
+
+    // Getters
+    public Map<Long, ResumeChangedEvent.Type> getChanges() { return changes; }
+    public Set<Long> getResumeIds() { return changes.keySet(); }
+}
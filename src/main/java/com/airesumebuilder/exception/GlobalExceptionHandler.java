@@ -3,8 +3,10 @@ package com.airesumebuilder.exception;
 import com.airesumebuilder.dto.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -55,6 +57,30 @@ public class GlobalExceptionHandler {
                   "Unable to generate PDF. Please try again or contact support."));
     }
     
+    @ExceptionHandler(PdfRenderCapacityExceededException.class)
+    public ResponseEntity<ApiResponse<String>> handlePdfRenderCapacityExceeded(PdfRenderCapacityExceededException ex) {
+        log.warn("PDF render capacity exceeded: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(ApiResponse.error("PDF rendering busy", ex.getMessage()));
+    }
+    
+    @ExceptionHandler(ResumeVersionMismatchException.class)
+    public ResponseEntity<ApiResponse<String>> handleResumeVersionMismatch(ResumeVersionMismatchException ex) {
+        log.warn("Resume version mismatch: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+            .eTag(String.valueOf(ex.getCurrentVersion()))
+            .body(ApiResponse.error("Resume has changed", ex.getMessage()));
+    }
+    
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<String>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        log.warn("Concurrent resume update: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error("Resume was modified concurrently", 
+                  "The resume was changed by another request. Reload it and try again."));
+    }
+    
     @ExceptionHandler(RateLimitExceededException.class)
     public ResponseEntity<ApiResponse<String>> handleRateLimitExceeded(RateLimitExceededException ex) {
         log.warn("Rate limit exceeded: {}", ex.getMessage());
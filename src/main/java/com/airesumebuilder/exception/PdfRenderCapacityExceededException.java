@@ -0,0 +1,22 @@
+package com.airesumebuilder.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when the PDF rendering pool has no free capacity.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PdfRenderCapacityExceededException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public PdfRenderCapacityExceededException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
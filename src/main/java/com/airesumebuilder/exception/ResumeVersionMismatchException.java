@@ -0,0 +1,22 @@
+package com.airesumebuilder.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a conditional update names a resume version that is no longer current.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class ResumeVersionMismatchException extends RuntimeException {
+
+    private final Long currentVersion;
+
+    public ResumeVersionMismatchException(Long id, Long expectedVersion, Long currentVersion) {
+        super("Resume " + id + " is at version " + currentVersion + ", not " + expectedVersion);
+        this.currentVersion = currentVersion;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
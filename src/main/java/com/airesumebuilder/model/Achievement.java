@@ -1,18 +1,23 @@
 package com.airesumebuilder.model;
 
+import com.airesumebuilder.event.ResumeEntityListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity class representing a user's achievement.
  * Maps to the achievement table in the database.
  */
 @Entity
+@EntityListeners(ResumeEntityListener.class)
+@DynamicUpdate
 @Table(name = "achievement")
-public class Achievement {
+public class Achievement implements ResumeSection {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "achievement_seq")
+    @SequenceGenerator(name = "achievement_seq", sequenceName = "achievement_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -47,10 +52,12 @@ public class Achievement {
     }
 
     // Getters and Setters
+    @Override
     public Long getId() {
         return id;
     }
 
+    @Override
     public void setId(Long id) {
         this.id = id;
     }
@@ -87,10 +94,12 @@ public class Achievement {
         this.category = category;
     }
 
+    @Override
     public ResumeData getResume() {
         return resume;
     }
 
+    @Override
     public void setResume(ResumeData resume) {
         this.resume = resume;
     }
@@ -1,18 +1,23 @@
 package com.airesumebuilder.model;
 
+import com.airesumebuilder.event.ResumeEntityListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity class representing a user's certification.
  * Maps to the certification table in the database.
  */
 @Entity
+@EntityListeners(ResumeEntityListener.class)
+@DynamicUpdate
 @Table(name = "certification")
-public class Certification {
+public class Certification implements ResumeSection {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certification_seq")
+    @SequenceGenerator(name = "certification_seq", sequenceName = "certification_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -55,10 +60,12 @@ public class Certification {
     }
 
     // Getters and Setters
+    @Override
     public Long getId() {
         return id;
     }
 
+    @Override
     public void setId(Long id) {
         this.id = id;
     }
@@ -111,10 +118,12 @@ public class Certification {
         this.certificateLink = certificateLink;
     }
 
+    @Override
     public ResumeData getResume() {
         return resume;
     }
 
+    @Override
     public void setResume(ResumeData resume) {
         this.resume = resume;
     }
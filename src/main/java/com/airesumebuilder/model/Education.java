@@ -1,18 +1,23 @@
 package com.airesumebuilder.model;
 
+import com.airesumebuilder.event.ResumeEntityListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity class representing a user's education details.
  * Maps to the education table in the database.
  */
 @Entity
+@EntityListeners(ResumeEntityListener.class)
+@DynamicUpdate
 @Table(name = "education")
-public class Education {
+public class Education implements ResumeSection {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "education_seq")
+    @SequenceGenerator(name = "education_seq", sequenceName = "education_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -55,10 +60,12 @@ public class Education {
     }
 
     // Getters and Setters
+    @Override
     public Long getId() {
         return id;
     }
 
+    @Override
     public void setId(Long id) {
         this.id = id;
     }
@@ -111,10 +118,12 @@ public class Education {
         this.achievements = achievements;
     }
 
+    @Override
     public ResumeData getResume() {
         return resume;
     }
 
+    @Override
     public void setResume(ResumeData resume) {
         this.resume = resume;
     }
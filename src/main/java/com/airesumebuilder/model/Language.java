@@ -1,18 +1,23 @@
 package com.airesumebuilder.model;
 
+import com.airesumebuilder.event.ResumeEntityListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity class representing a user's language proficiency.
  * Maps to the language table in the database.
  */
 @Entity
+@EntityListeners(ResumeEntityListener.class)
+@DynamicUpdate
 @Table(name = "language")
-public class Language {
+public class Language implements ResumeSection {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "language_seq")
+    @SequenceGenerator(name = "language_seq", sequenceName = "language_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -38,10 +43,12 @@ public class Language {
     }
 
     // Getters and Setters
+    @Override
     public Long getId() {
         return id;
     }
 
+    @Override
     public void setId(Long id) {
         this.id = id;
     }
@@ -62,10 +69,12 @@ public class Language {
         this.proficiency = proficiency;
     }
 
+    @Override
     public ResumeData getResume() {
         return resume;
     }
 
+    @Override
     public void setResume(ResumeData resume) {
         this.resume = resume;
     }
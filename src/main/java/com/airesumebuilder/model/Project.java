@@ -1,18 +1,23 @@
 package com.airesumebuilder.model;
 
+import com.airesumebuilder.event.ResumeEntityListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity class representing a user's project.
  * Maps to the project table in the database.
  */
 @Entity
+@EntityListeners(ResumeEntityListener.class)
+@DynamicUpdate
 @Table(name = "project")
-public class Project {
+public class Project implements ResumeSection {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -59,10 +64,12 @@ public class Project {
     }
 
     // Getters and Setters
+    @Override
     public Long getId() {
         return id;
     }
 
+    @Override
     public void setId(Long id) {
         this.id = id;
     }
@@ -123,10 +130,12 @@ public class Project {
         this.endDate = endDate;
     }
 
+    @Override
     public ResumeData getResume() {
         return resume;
     }
 
+    @Override
     public void setResume(ResumeData resume) {
         this.resume = resume;
     }
@@ -1,6 +1,8 @@
 package com.airesumebuilder.model;
 
+import com.airesumebuilder.event.ResumeEntityListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -12,11 +14,14 @@ import java.util.List;
  * Contains relationships to Education, Project, Skill, and other entities.
  */
 @Entity
+@EntityListeners(ResumeEntityListener.class)
+@DynamicUpdate
 @Table(name = "resume_data")
 public class ResumeData {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_data_seq")
+    @SequenceGenerator(name = "resume_data_seq", sequenceName = "resume_data_id_seq", allocationSize = 50)
     private Long id;
 
     // Personal Information
@@ -76,23 +81,34 @@ public class ResumeData {
     @Column
     private LocalDateTime generatedAt;
 
+    // Optimistic locking, incremented on every update
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Relationships
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
     private List<Education> educations;
 
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
     private List<Project> projects;
 
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
     private List<Skill> skills;
 
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
     private List<Certification> certifications;
 
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
     private List<Language> languages;
 
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
     private List<Achievement> achievements;
 
     // Constructors
@@ -244,6 +260,14 @@ public class ResumeData {
         this.template = template;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,16 @@
+package com.airesumebuilder.model;
+
+/**
+ * Common view of the entities that make up a section of a resume
+ * (education, projects, skills, certifications, languages and achievements).
+ */
+public interface ResumeSection {
+
+    Long getId();
+
+    void setId(Long id);
+
+    ResumeData getResume();
+
+    void setResume(ResumeData resume);
+}
@@ -1,43 +1,34 @@
 package com.airesumebuilder.repository;
 
 import com.airesumebuilder.model.ResumeData;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
  * Repository interface for ResumeData entity.
  * Provides CRUD operations and custom queries for resume data.
- * Uses @EntityGraph to optimize queries and prevent N+1 problem.
+ * Queries that load a resume with all its sections live in ResumeRepositoryCustom.
  */
 @Repository
-public interface ResumeRepository extends JpaRepository<ResumeData, Long> {
-    
-    /**
-     * Find resume by ID with all relationships eagerly loaded
-     * This prevents N+1 query problem
-     */
-    @EntityGraph(attributePaths = {
-        "educations", "projects", "skills", 
-        "certifications", "languages", "achievements"
-    })
-    @Query("SELECT r FROM ResumeData r WHERE r.id = :id")
-    Optional<ResumeData> findByIdWithDetails(@Param("id") Long id);
-    
-    /**
-     * Find resume by email
-     */
-    @EntityGraph(attributePaths = {
-        "educations", "projects", "skills", 
-        "certifications", "languages", "achievements"
-    })
-    Optional<ResumeData> findByEmail(String email);
+public interface ResumeRepository extends JpaRepository<ResumeData, Long>, ResumeRepositoryCustom {
 
     /**
      * Find resume by first and last name
      */
     Optional<ResumeData> findByFirstNameAndLastName(String firstName, String lastName);
+
+    /**
+     * Record when a PDF was last generated without touching updatedAt
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ResumeData r SET r.generatedAt = :generatedAt WHERE r.id = :id")
+    int updateGeneratedAt(@Param("id") Long id, @Param("generatedAt") LocalDateTime generatedAt);
 }
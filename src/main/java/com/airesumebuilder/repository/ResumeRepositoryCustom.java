@@ -0,0 +1,47 @@
+package com.airesumebuilder.repository;
+
+import com.airesumebuilder.dto.ResumeSummaryDTO;
+import com.airesumebuilder.model.ResumeData;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Custom queries for ResumeData that need more than a single JPQL statement.
+ */
+public interface ResumeRepositoryCustom {
+
+    /**
+     * Find resume by ID with all relationships loaded
+     */
+    Optional<ResumeData> findByIdWithDetails(Long id);
+
+    /**
+     * Find resume by email with all relationships loaded
+     */
+    Optional<ResumeData> findByEmail(String email);
+
+    /**
+     * List resume summaries newest first, using keyset pagination on (createdAt, id).
+     * Returns the resumes that sort after the given position, or from the start when it is null.
+     *
+     * @param query     case-insensitive text matched against name and email, or null
+     * @param template  exact template name, or null
+     * @param createdAt createdAt of the last resume of the previous page, or null
+     * @param id        ID of the last resume of the previous page, or null
+     * @param limit     maximum number of summaries to return
+     */
+    List<ResumeSummaryDTO> findSummaries(String query, String template, LocalDateTime createdAt, Long id, int limit);
+
+    /**
+     * IDs of the resumes after the given ID in ascending order, for walking the whole table
+     */
+    List<Long> findIdsAfter(Long afterId, int limit);
+
+    /**
+     * Find resumes by ID with the sections indexed for search (skills and projects) loaded
+     */
+    List<ResumeData> findWithSearchableSections(Collection<Long> ids);
+}
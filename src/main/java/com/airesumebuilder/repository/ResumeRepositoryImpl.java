@@ -0,0 +1,146 @@
+package com.airesumebuilder.repository;
+
+import com.airesumebuilder.dto.ResumeSummaryDTO;
+import com.airesumebuilder.model.ResumeData;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Hibernate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Implementation of the custom ResumeData queries.
+ *
+ * Fetching all six section lists in one join would multiply their rows together
+ * (and Hibernate refuses to fetch more than one bag at a time), so a resume is loaded
+ * with its educations in one query and each remaining section in its own query:
+ * six statements whose result sizes add up instead of multiplying.
+ *
+ * Listings select summary columns only and page by seeking past the last
+ * (createdAt, id) seen, so every page costs the same however deep it is.
+ */
+public class ResumeRepositoryImpl implements ResumeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResumeData> findByIdWithDetails(Long id) {
+        try {
+            ResumeData resume = entityManager.createQuery(
+                            "SELECT r FROM ResumeData r LEFT JOIN FETCH r.educations WHERE r.id = :id", ResumeData.class)
+                    .setParameter("id", id)
+                    .getSingleResult();
+            return Optional.of(initializeSections(resume));
+        } catch (NoResultException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResumeData> findByEmail(String email) {
+        try {
+            ResumeData resume = entityManager.createQuery(
+                            "SELECT r FROM ResumeData r LEFT JOIN FETCH r.educations WHERE r.email = :email", ResumeData.class)
+                    .setParameter("email", email)
+                    .getSingleResult();
+            return Optional.of(initializeSections(resume));
+        } catch (NoResultException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumeSummaryDTO> findSummaries(String query, String template, LocalDateTime createdAt, Long id,
+                                                int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ResumeSummaryDTO> cq = cb.createQuery(ResumeSummaryDTO.class);
+        Root<ResumeData> resume = cq.from(ResumeData.class);
+        cq.select(cb.construct(ResumeSummaryDTO.class,
+                resume.get("id"), resume.get("firstName"), resume.get("lastName"), resume.get("email"),
+                resume.get("location"), resume.get("template"), resume.get("resumeScore"),
+                resume.get("createdAt"), resume.get("updatedAt")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (query != null && !query.isBlank()) {
+            String pattern = "%" + escapeLike(query.trim().toLowerCase(Locale.ROOT)) + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(resume.get("firstName")), pattern, '\\'),
+                    cb.like(cb.lower(resume.get("lastName")), pattern, '\\'),
+                    cb.like(cb.lower(resume.get("email")), pattern, '\\')));
+        }
+        if (template != null && !template.isBlank()) {
+            predicates.add(cb.equal(resume.get("template"), template));
+        }
+        if (createdAt != null && id != null) {
+            // Seek past the previous page: (createdAt, id) < (:createdAt, :id)
+            predicates.add(cb.or(
+                    cb.lessThan(resume.get("createdAt"), createdAt),
+                    cb.and(cb.equal(resume.get("createdAt"), createdAt), cb.lessThan(resume.get("id"), id))));
+        }
+
+        cq.where(predicates.toArray(new Predicate[0]));
+        cq.orderBy(cb.desc(resume.get("createdAt")), cb.desc(resume.get("id")));
+        return entityManager.createQuery(cq)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIdsAfter(Long afterId, int limit) {
+        return entityManager.createQuery(
+                        "SELECT r.id FROM ResumeData r WHERE r.id > :afterId ORDER BY r.id", Long.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumeData> findWithSearchableSections(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // Two bags cannot be fetched in one query; the second query fills the same instances
+        List<ResumeData> resumes = entityManager.createQuery(
+                        "SELECT DISTINCT r FROM ResumeData r LEFT JOIN FETCH r.skills WHERE r.id IN :ids", ResumeData.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        entityManager.createQuery(
+                        "SELECT DISTINCT r FROM ResumeData r LEFT JOIN FETCH r.projects WHERE r.id IN :ids", ResumeData.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        return resumes;
+    }
+
+    private String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Load the sections not fetched with the resume, one query each
+     */
+    private ResumeData initializeSections(ResumeData resume) {
+        Hibernate.initialize(resume.getProjects());
+        Hibernate.initialize(resume.getSkills());
+        Hibernate.initialize(resume.getCertifications());
+        Hibernate.initialize(resume.getLanguages());
+        Hibernate.initialize(resume.getAchievements());
+        return resume;
+    }
+}
@@ -0,0 +1,69 @@
+package com.airesumebuilder.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Startup step that moves the id sequences of databases created before pooled ids
+ * to an increment matching the entities' allocationSize.
+ *
+ * Hibernate compares each sequence's increment with allocationSize while the
+ * EntityManagerFactory starts and refuses to start on a mismatch, and ddl-auto=update
+ * never alters an existing sequence. This step therefore runs before the
+ * EntityManagerFactory is created. Fresh databases get their sequences from Hibernate
+ * with the right increment, so only older PostgreSQL databases are changed.
+ */
+@Component
+public class SequenceIncrementMigration implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceIncrementMigration.class);
+
+    /**
+     * allocationSize of every entity id generator
+     */
+    static final int ALLOCATION_SIZE = 50;
+
+    static final List<String> SEQUENCES = List.of(
+            "resume_data_id_seq", "education_id_seq", "skill_id_seq", "project_id_seq",
+            "certification_id_seq", "language_id_seq", "achievement_id_seq");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        String databaseProduct = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(databaseProduct)) {
+            return;
+        }
+        for (String sequence : SEQUENCES) {
+            List<Long> increments = jdbcTemplate.queryForList(
+                    "SELECT increment_by FROM pg_sequences WHERE schemaname = current_schema() AND sequencename = ?",
+                    Long.class, sequence);
+            if (!increments.isEmpty() && increments.get(0) != ALLOCATION_SIZE) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " INCREMENT BY " + ALLOCATION_SIZE);
+                log.info("Changed increment of sequence {} from {} to {}", sequence, increments.get(0), ALLOCATION_SIZE);
+            }
+        }
+    }
+
+    /**
+     * Makes the EntityManagerFactory wait for the migration
+     */
+    @Component
+    static class EntityManagerFactoryDependsOnMigration extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependsOnMigration() {
+            super(SequenceIncrementMigration.class);
+        }
+    }
+}
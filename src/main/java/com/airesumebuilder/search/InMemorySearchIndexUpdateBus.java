@@ -0,0 +1,35 @@
+package com.airesumebuilder.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process search index update bus that delivers messages synchronously to every subscriber.
+ * Stand-in for a real broker in single-instance deployments and tests.
+ */
+public class InMemorySearchIndexUpdateBus implements SearchIndexUpdateBus {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemorySearchIndexUpdateBus.class);
+
+    private final List<Consumer<SearchIndexUpdateMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(SearchIndexUpdateMessage message) {
+        for (Consumer<SearchIndexUpdateMessage> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("Search index update listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<SearchIndexUpdateMessage> listener) {
+        listeners.add(listener);
+    }
+}
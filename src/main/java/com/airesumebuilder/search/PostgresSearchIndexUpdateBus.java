@@ -0,0 +1,57 @@
+package com.airesumebuilder.search;
+
+import com.airesumebuilder.cache.PostgresNotificationBus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Search index update bus on its own Postgres LISTEN/NOTIFY channel.
+ * Large announcements, such as a bulk import, are split into several notifications
+ * so each stays below the Postgres payload limit.
+ */
+public class PostgresSearchIndexUpdateBus extends PostgresNotificationBus<SearchIndexUpdateMessage>
+        implements SearchIndexUpdateBus {
+
+    static final String CHANNEL = "search_index_update";
+
+    // 200 IDs of up to 19 digits each stay well below the payload limit
+    static final int MAX_IDS_PER_NOTIFICATION = 200;
+
+    private final ObjectMapper objectMapper;
+
+    public PostgresSearchIndexUpdateBus(JdbcTemplate jdbcTemplate, ConnectionFactory connectionFactory,
+                                        ObjectMapper objectMapper) {
+        super(jdbcTemplate, connectionFactory, CHANNEL);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(SearchIndexUpdateMessage message) {
+        List<Long> resumeIds = message.getResumeIds();
+        for (int from = 0; from < resumeIds.size(); from += MAX_IDS_PER_NOTIFICATION) {
+            List<Long> chunk = resumeIds.subList(from, Math.min(from + MAX_IDS_PER_NOTIFICATION, resumeIds.size()));
+            send(encode(new SearchIndexUpdateMessage(message.getOriginNodeId(), chunk)));
+        }
+    }
+
+    @Override
+    protected String encode(SearchIndexUpdateMessage message) {
+        ObjectNode node = objectMapper.createObjectNode().put("origin", message.getOriginNodeId());
+        message.getResumeIds().forEach(node.putArray("ids")::add);
+        return node.toString();
+    }
+
+    @Override
+    protected SearchIndexUpdateMessage decode(String payload) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(payload);
+        List<Long> resumeIds = new ArrayList<>();
+        node.path("ids").forEach(id -> resumeIds.add(id.asLong()));
+        return new SearchIndexUpdateMessage(node.path("origin").asText(), resumeIds);
+    }
+}
@@ -0,0 +1,381 @@
+package com.airesumebuilder.search;
+
+import com.airesumebuilder.config.CacheTierConfig;
+import com.airesumebuilder.config.SearchIndexConfig;
+import com.airesumebuilder.dto.ResumeSearchHitDTO;
+import com.airesumebuilder.event.ResumesChangedEvent;
+import com.airesumebuilder.model.Project;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.Skill;
+import com.airesumebuilder.repository.ResumeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Embedded Lucene index for ranked full-text search over resumes.
+ * The index is rebuilt from the database on startup and then kept current from
+ * committed resume changes, locally through ResumesChangedEvent and from other
+ * instances through the SearchIndexUpdateBus.
+ *
+ * Features:
+ * - BM25 ranking with skills weighted above project technologies, names and free text
+ * - Index updates applied off the request thread after commit, batched so a burst of
+ *   changes costs one query and one searcher refresh per batch
+ * - Results built from stored fields, without a database query
+ * - In-memory index by default, or on disk when a directory is configured
+ */
+@Component
+public class ResumeSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeSearchIndex.class);
+
+    private static final int MAX_QUERY_TERMS = 32;
+
+    // Field weights: a skill match says more about a candidate than a passing mention
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            "skills", 4.0f,
+            "technologies", 3.0f,
+            "name", 2.0f,
+            "content", 1.0f);
+
+    @Autowired
+    private SearchIndexConfig searchIndexConfig;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private SearchIndexUpdateBus searchIndexUpdateBus;
+
+    @Autowired
+    private CacheTierConfig cacheTierConfig;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ExecutorService indexExecutor;
+
+    // Resumes waiting to be reindexed; a drain is queued on the worker whenever the set fills up from empty
+    private final Set<Long> pendingIds = new LinkedHashSet<>();
+    private boolean drainQueued;
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!searchIndexConfig.isEnabled()) {
+            log.info("Resume search index is disabled");
+            return;
+        }
+        String path = searchIndexConfig.getDirectory();
+        directory = path == null || path.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Paths.get(path));
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+
+        // A single worker keeps updates of the same resume in commit order
+        indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resume-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        searchIndexUpdateBus.subscribe(this::onRemoteChange);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        indexExecutor.shutdown();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (writer != null && searchIndexConfig.isRebuildOnStartup()) {
+            indexExecutor.execute(this::rebuildQuietly);
+        }
+    }
+
+    /**
+     * Reindex the resumes of a committed transaction and tell the other instances to do the same
+     */
+    @EventListener
+    public void onResumesChanged(ResumesChangedEvent event) {
+        if (writer == null) {
+            return;
+        }
+        List<Long> resumeIds = new ArrayList<>(event.getResumeIds());
+        enqueue(resumeIds);
+        searchIndexUpdateBus.publish(new SearchIndexUpdateMessage(cacheTierConfig.getNodeId(), resumeIds));
+    }
+
+    /**
+     * Find resumes matching the query, best match first
+     */
+    public List<ResumeSearchHitDTO> search(String query, int limit) {
+        if (writer == null) {
+            throw new IllegalStateException("Resume search is disabled");
+        }
+        BooleanQuery luceneQuery = buildQuery(query);
+        List<ResumeSearchHitDTO> hits = new ArrayList<>();
+        if (luceneQuery.clauses().isEmpty()) {
+            return hits;
+        }
+
+        int maxHits = Math.max(1, Math.min(limit, searchIndexConfig.getMaxResults()));
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(luceneQuery, maxHits);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    Document document = searcher.storedFields().document(scoreDoc.doc);
+                    hits.add(new ResumeSearchHitDTO(Long.valueOf(document.get("id")), document.get("firstName"),
+                            document.get("lastName"), document.get("email"), scoreDoc.score));
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Resume search failed", e);
+        }
+        return hits;
+    }
+
+    /**
+     * Rebuild the whole index from the database, replacing its current content in one step
+     */
+    public void rebuild() throws IOException {
+        long started = System.currentTimeMillis();
+        writer.deleteAll();
+        int batchSize = searchIndexConfig.getRebuildBatchSize();
+        long indexed = 0;
+        Long afterId = 0L;
+        List<Long> ids;
+        while (!(ids = resumeRepository.findIdsAfter(afterId, batchSize)).isEmpty()) {
+            for (ResumeData resume : resumeRepository.findWithSearchableSections(ids)) {
+                writer.addDocument(toDocument(resume));
+            }
+            indexed += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        writer.commit();
+        searcherManager.maybeRefreshBlocking();
+        log.info("Resume search index rebuilt with {} resumes in {} ms", indexed, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Wait until every index update queued so far is searchable
+     */
+    public void awaitPendingUpdates() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            indexExecutor.submit(() -> null).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    void onRemoteChange(SearchIndexUpdateMessage message) {
+        if (cacheTierConfig.getNodeId().equals(message.getOriginNodeId())) {
+            return;
+        }
+        enqueue(message.getResumeIds());
+    }
+
+    private void enqueue(Collection<Long> resumeIds) {
+        synchronized (pendingIds) {
+            pendingIds.addAll(resumeIds);
+            if (drainQueued) {
+                return;
+            }
+            drainQueued = true;
+        }
+        indexExecutor.execute(this::drainPending);
+    }
+
+    /**
+     * Reindex pending resumes in batches until none are left; runs on the index worker
+     */
+    private void drainPending() {
+        int batchSize = Math.max(1, searchIndexConfig.getUpdateBatchSize());
+        while (true) {
+            List<Long> batch = new ArrayList<>();
+            synchronized (pendingIds) {
+                Iterator<Long> it = pendingIds.iterator();
+                while (it.hasNext() && batch.size() < batchSize) {
+                    batch.add(it.next());
+                    it.remove();
+                }
+                if (batch.isEmpty()) {
+                    drainQueued = false;
+                    return;
+                }
+            }
+            try {
+                reindex(batch);
+            } catch (Exception e) {
+                log.warn("Could not update search index for {} resumes: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Replace the documents of the given resumes with their committed state, dropping resumes
+     * that are gone, then refresh the searcher once.
+     * Runs on the index worker, so the read happens in its own transaction.
+     */
+    void reindex(List<Long> resumeIds) throws IOException {
+        Map<Long, ResumeData> resumes = new HashMap<>();
+        for (ResumeData resume : resumeRepository.findWithSearchableSections(resumeIds)) {
+            resumes.put(resume.getId(), resume);
+        }
+        for (Long resumeId : resumeIds) {
+            Term idTerm = new Term("id", String.valueOf(resumeId));
+            ResumeData resume = resumes.get(resumeId);
+            if (resume == null) {
+                writer.deleteDocuments(idTerm);
+            } else {
+                writer.updateDocument(idTerm, toDocument(resume));
+            }
+        }
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Could not rebuild resume search index: {}", e.getMessage(), e);
+        }
+    }
+
+    private Document toDocument(ResumeData resume) {
+        Document document = new Document();
+        document.add(new StringField("id", String.valueOf(resume.getId()), Field.Store.YES));
+        document.add(new StoredField("firstName", nullToEmpty(resume.getFirstName())));
+        document.add(new StoredField("lastName", nullToEmpty(resume.getLastName())));
+        document.add(new StoredField("email", nullToEmpty(resume.getEmail())));
+
+        document.add(new TextField("name", join(resume.getFirstName(), resume.getLastName()), Field.Store.NO));
+        document.add(new TextField("skills", joinAll(resume.getSkills(), Skill::getSkillName), Field.Store.NO));
+        document.add(new TextField("technologies", joinAll(resume.getProjects(), Project::getTechnologies), Field.Store.NO));
+        document.add(new TextField("content", join(
+                resume.getCareerObjective(),
+                resume.getProfessionalSummary(),
+                resume.getEnhancedCareerObjective(),
+                resume.getEnhancedProfessionalSummary(),
+                joinAll(resume.getProjects(), Project::getProjectName),
+                joinAll(resume.getProjects(), Project::getDescription),
+                joinAll(resume.getSkills(), Skill::getDescription)), Field.Store.NO));
+        return document;
+    }
+
+    /**
+     * Match any query term in any field, weighted per field; BM25 ranks resumes matching more terms higher
+     */
+    private BooleanQuery buildQuery(String query) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : analyze(query)) {
+            BooleanQuery.Builder termQuery = new BooleanQuery.Builder();
+            FIELD_BOOSTS.forEach((field, boost) -> termQuery.add(
+                    new BoostQuery(new TermQuery(new Term(field, term)), boost), BooleanClause.Occur.SHOULD));
+            builder.add(termQuery.build(), BooleanClause.Occur.SHOULD);
+        }
+        return builder.build();
+    }
+
+    private Set<String> analyze(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query == null || query.isBlank()) {
+            return terms;
+        }
+        try (TokenStream tokens = analyzer.tokenStream("content", query)) {
+            CharTermAttribute termAttribute = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(termAttribute.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not analyze search query", e);
+        }
+        return terms;
+    }
+
+    private <T> String joinAll(List<T> items, Function<T, String> text) {
+        if (items == null) {
+            return "";
+        }
+        List<String> parts = new ArrayList<>();
+        for (T item : items) {
+            parts.add(text.apply(item));
+        }
+        return join(parts.toArray(new String[0]));
+    }
+
+    private String join(String... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (String part : parts) {
+            if (part != null && !part.isBlank()) {
+                sb.append(part).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
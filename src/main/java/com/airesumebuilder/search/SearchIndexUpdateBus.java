@@ -0,0 +1,15 @@
+package com.airesumebuilder.search;
+
+import java.util.function.Consumer;
+
+/**
+ * Channel on which instances announce the resumes they have reindexed, so every
+ * instance's search index follows changes made through any other instance.
+ * Delivery is best effort; a rebuild on the next startup picks up anything missed.
+ */
+public interface SearchIndexUpdateBus {
+
+    void publish(SearchIndexUpdateMessage message);
+
+    void subscribe(Consumer<SearchIndexUpdateMessage> listener);
+}
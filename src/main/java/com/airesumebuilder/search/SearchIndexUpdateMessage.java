@@ -0,0 +1,22 @@
+package com.airesumebuilder.search;
+
+import java.util.List;
+
+/**
+ * Resumes that an instance has reindexed after a committed change, announced so the
+ * other instances reindex them too.
+ */
+public class SearchIndexUpdateMessage {
+
+    private final String originNodeId;
+    private final List<Long> resumeIds;
+
+    public SearchIndexUpdateMessage(String originNodeId, List<Long> resumeIds) {
+        this.originNodeId = originNodeId;
+        this.resumeIds = List.copyOf(resumeIds);
+    }
+
+    // Getters
+    public String getOriginNodeId() { return originNodeId; }
+    public List<Long> getResumeIds() { return resumeIds; }
+}
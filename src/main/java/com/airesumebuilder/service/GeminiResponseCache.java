@@ -0,0 +1,259 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.config.GeminiCacheConfig;
+import com.airesumebuilder.dto.EnhancementRequestDTO;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Service class for caching Gemini enhancement and scoring results.
+ * Entries are content-addressed: the key hashes the operation, the prompt version, the model
+ * endpoint and the normalized request text, so repeating a request with the same content
+ * returns the earlier result without calling the API or using rate-limit quota.
+ *
+ * Features:
+ * - Entry-bounded in-memory LRU tier with a TTL
+ * - Optional size-bounded on-disk tier that survives restarts
+ * - Whitespace-insensitive keys
+ * - Only results that parse as the expected JSON object are stored
+ */
+@Service
+public class GeminiResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(GeminiResponseCache.class);
+    private static final String FILE_SUFFIX = ".txt";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Autowired
+    private GeminiCacheConfig geminiCacheConfig;
+
+    // Access-ordered so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, CachedResponse> memoryTier = new LinkedHashMap<>(64, 0.75f, true);
+
+    private record CachedResponse(String text, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+
+    /**
+     * Build the cache key for a Gemini call.
+     * Runs of whitespace count as one space, so re-sending the same resume text with
+     * different spacing or line breaks hits the cache.
+     */
+    public String cacheKey(String operation, String promptVersion, String endpoint, EnhancementRequestDTO request) {
+        String content = WHITESPACE.matcher(request.getCombinedText()).replaceAll(" ").strip();
+        return sha256(operation + "\n" + promptVersion + "\n" + endpoint + "\n" + content);
+    }
+
+    /**
+     * Look up a cached result, promoting disk hits into memory
+     */
+    public Optional<String> get(String key) {
+        if (!geminiCacheConfig.isEnabled()) {
+            return Optional.empty();
+        }
+        synchronized (memoryTier) {
+            CachedResponse cached = memoryTier.get(key);
+            if (cached != null) {
+                if (!cached.isExpired()) {
+                    log.debug("Gemini cache memory hit: {}", key);
+                    return Optional.of(cached.text());
+                }
+                memoryTier.remove(key);
+            }
+        }
+        if (geminiCacheConfig.isDiskEnabled()) {
+            Path file = diskPath(key);
+            if (Files.isRegularFile(file)) {
+                long expiresAt = expiresAt(lastModified(file));
+                if (System.currentTimeMillis() >= expiresAt) {
+                    deleteQuietly(file);
+                    return Optional.empty();
+                }
+                try {
+                    String cached = Files.readString(file, StandardCharsets.UTF_8);
+                    putInMemory(key, new CachedResponse(cached, expiresAt));
+                    log.debug("Gemini cache disk hit: {}", key);
+                    return Optional.of(cached);
+                } catch (IOException e) {
+                    log.warn("Could not read cached Gemini response {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Store a result in every enabled tier
+     */
+    public void put(String key, String text) {
+        if (!geminiCacheConfig.isEnabled() || text == null) {
+            return;
+        }
+        putInMemory(key, new CachedResponse(text, expiresAt(System.currentTimeMillis())));
+        if (geminiCacheConfig.isDiskEnabled()) {
+            writeToDisk(key, text);
+        }
+    }
+
+    /**
+     * Store a model result only if it is a JSON object with every required field.
+     * A malformed answer is not cached, so the next identical request asks the model again
+     * instead of getting the same bad result until it expires.
+     *
+     * @return whether the result was accepted
+     */
+    public boolean putIfComplete(String key, String text, List<String> requiredFields) {
+        if (!isComplete(text, requiredFields)) {
+            log.warn("Not caching Gemini result without the expected JSON fields {}", requiredFields);
+            return false;
+        }
+        put(key, text);
+        return true;
+    }
+
+    private boolean isComplete(String text, List<String> requiredFields) {
+        if (text == null) {
+            return false;
+        }
+        JsonElement parsed;
+        try {
+            parsed = JsonParser.parseString(text);
+        } catch (JsonParseException e) {
+            return false;
+        }
+        if (!parsed.isJsonObject()) {
+            return false;
+        }
+        JsonObject json = parsed.getAsJsonObject();
+        for (String field : requiredFields) {
+            if (!json.has(field) || !json.get(field).isJsonPrimitive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void putInMemory(String key, CachedResponse response) {
+        synchronized (memoryTier) {
+            memoryTier.put(key, response);
+            Iterator<CachedResponse> it = memoryTier.values().iterator();
+            while (memoryTier.size() > geminiCacheConfig.getMaxEntries() && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Expiry of an entry written at the given time; a zero TTL never expires
+     */
+    private long expiresAt(long writtenAt) {
+        Duration ttl = geminiCacheConfig.getTtl();
+        return ttl.isZero() ? Long.MAX_VALUE : writtenAt + ttl.toMillis();
+    }
+
+    private void writeToDisk(String key, String text) {
+        try {
+            Path directory = Paths.get(geminiCacheConfig.getDiskDirectory());
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, key, ".tmp");
+            Files.writeString(tmp, text, StandardCharsets.UTF_8);
+            Files.move(tmp, diskPath(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            trimDisk();
+        } catch (IOException e) {
+            log.warn("Could not write cached Gemini response {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Delete the oldest files until the disk tier fits its budget
+     */
+    private void trimDisk() throws IOException {
+        List<Path> files = listDiskEntries();
+        long total = 0;
+        for (Path file : files) {
+            total += Files.size(file);
+        }
+        if (total <= geminiCacheConfig.getDiskMaxBytes()) {
+            return;
+        }
+        files.sort(Comparator.comparingLong(this::lastModified));
+        for (Path file : files) {
+            if (total <= geminiCacheConfig.getDiskMaxBytes()) {
+                break;
+            }
+            total -= Files.size(file);
+            deleteQuietly(file);
+        }
+    }
+
+    private List<Path> listDiskEntries() {
+        List<Path> files = new ArrayList<>();
+        Path directory = Paths.get(geminiCacheConfig.getDiskDirectory());
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            log.warn("Could not list Gemini cache directory {}: {}", directory, e.getMessage());
+        }
+        return files;
+    }
+
+    private Path diskPath(String key) {
+        return Paths.get(geminiCacheConfig.getDiskDirectory(), key + FILE_SUFFIX);
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete cached Gemini response {}: {}", file, e.getMessage());
+        }
+    }
+
+    private String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonSyntaxException;
+import jakarta.annotation.PostConstruct;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.Refill;
@@ -26,8 +27,17 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service class for Gemini API integration.
@@ -38,13 +48,24 @@ import java.time.Duration;
  * - Generate resume improvement suggestions
  * - Calculate resume score based on content quality
  * - Rate limiting to prevent API quota exhaustion
+ * - Result cache so identical requests skip the API and the rate limit
  * - Retry logic with exponential backoff
+ * - Non-blocking variants built on the pooled WebClient
  */
 @Service
 public class GeminiService {
 
     private static final Logger log = LoggerFactory.getLogger(GeminiService.class);
     private static final int MAX_REQUESTS_PER_MINUTE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+    // Part of every cache key; bump when a prompt changes so earlier results are not reused
+    private static final String PROMPT_VERSION = "1";
+    private static final String ENHANCE_OPERATION = "enhance";
+    private static final String SCORE_OPERATION = "score";
+    // Fields the prompts ask for; results without them are returned but not cached
+    private static final List<String> ENHANCE_FIELDS = List.of("enhancedCareerObjective", "enhancedProfessionalSummary");
+    private static final List<String> SCORE_FIELDS = List.of("score");
 
     @Autowired
     private GeminiConfig geminiConfig;
@@ -52,14 +73,36 @@ public class GeminiService {
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private WebClient webClient;
+
+    @Autowired
+    private GeminiResponseCache responseCache;
+
     private final Gson gson = new Gson();
-    private final Bucket rateLimiter;
+    private int requestsPerMinute;
+    private Bucket rateLimiter;
 
     public GeminiService() {
-        // Rate limit: 10 requests per minute
-        Bandwidth limit = Bandwidth.classic(MAX_REQUESTS_PER_MINUTE, 
-            Refill.intervally(MAX_REQUESTS_PER_MINUTE, Duration.ofMinutes(1)));
-        this.rateLimiter = Bucket.builder()
+        // Rate limit: 10 requests per minute until the configured limit is applied
+        this.rateLimiter = buildRateLimiter(MAX_REQUESTS_PER_MINUTE);
+    }
+
+    /**
+     * Apply the configured rate limit (gemini.api.requests-per-minute)
+     */
+    @PostConstruct
+    void configureRateLimit() {
+        if (geminiConfig != null && geminiConfig.getRequestsPerMinute() != requestsPerMinute) {
+            this.rateLimiter = buildRateLimiter(geminiConfig.getRequestsPerMinute());
+        }
+    }
+
+    private Bucket buildRateLimiter(int limitPerMinute) {
+        this.requestsPerMinute = limitPerMinute;
+        Bandwidth limit = Bandwidth.classic(limitPerMinute,
+            Refill.intervally(limitPerMinute, Duration.ofMinutes(1)));
+        return Bucket.builder()
             .addLimit(limit)
             .build();
     }
@@ -74,8 +117,15 @@ public class GeminiService {
         backoff = @Backoff(delay = 1000, multiplier = 2)
     )
     public String enhanceResumeContent(EnhancementRequestDTO request) {
+        String cacheKey = cacheKey(ENHANCE_OPERATION, request);
+        Optional<String> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("Returning cached resume enhancement");
+            return cached.get();
+        }
         String prompt = buildEnhancementPrompt(request);
         String response = callGeminiAPI(prompt);
+        responseCache.putIfComplete(cacheKey, response, ENHANCE_FIELDS);
         log.info("Successfully enhanced resume content");
         return response;
     }
@@ -99,8 +149,15 @@ public class GeminiService {
         backoff = @Backoff(delay = 1000, multiplier = 2)
     )
     public String calculateResumeScore(EnhancementRequestDTO request) {
+        String cacheKey = cacheKey(SCORE_OPERATION, request);
+        Optional<String> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("Returning cached resume score");
+            return cached.get();
+        }
         String prompt = buildScoringPrompt(request);
         String response = callGeminiAPI(prompt);
+        responseCache.putIfComplete(cacheKey, response, SCORE_FIELDS);
         log.info("Successfully calculated resume score");
         return response;
     }
@@ -114,34 +171,63 @@ public class GeminiService {
         throw new GeminiApiException("AI service unavailable after retries", e);
     }
 
+    /**
+     * Enhance resume content without blocking the calling thread.
+     * Completes on a Reactor bounded-elastic thread once the result is cached, or at once
+     * on a cache hit; callers should still hop to their own executor for database work.
+     */
+    public CompletableFuture<String> enhanceResumeContentAsync(EnhancementRequestDTO request) {
+        String cacheKey = cacheKey(ENHANCE_OPERATION, request);
+        Optional<String> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("Returning cached resume enhancement");
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        return callGeminiApiAsync(buildEnhancementPrompt(request))
+                // Storing may write the disk tier, which must not run on the Netty event loop
+                .publishOn(Schedulers.boundedElastic())
+                .doOnSuccess(response -> {
+                    responseCache.putIfComplete(cacheKey, response, ENHANCE_FIELDS);
+                    log.info("Successfully enhanced resume content");
+                })
+                .toFuture();
+    }
+
+    /**
+     * Calculate resume score without blocking the calling thread.
+     * Completes on a Reactor bounded-elastic thread once the result is cached, or at once
+     * on a cache hit; callers should still hop to their own executor for database work.
+     */
+    public CompletableFuture<String> calculateResumeScoreAsync(EnhancementRequestDTO request) {
+        String cacheKey = cacheKey(SCORE_OPERATION, request);
+        Optional<String> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("Returning cached resume score");
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        return callGeminiApiAsync(buildScoringPrompt(request))
+                // Storing may write the disk tier, which must not run on the Netty event loop
+                .publishOn(Schedulers.boundedElastic())
+                .doOnSuccess(response -> {
+                    responseCache.putIfComplete(cacheKey, response, SCORE_FIELDS);
+                    log.info("Successfully calculated resume score");
+                })
+                .toFuture();
+    }
+
+    private String cacheKey(String operation, EnhancementRequestDTO request) {
+        return responseCache.cacheKey(operation, PROMPT_VERSION, geminiConfig.getEndpoint(), request);
+    }
+
     /**
      * Call Gemini API with the given prompt
      */
     private String callGeminiAPI(String prompt) {
-        // Check rate limit
-        if (!rateLimiter.tryConsume(1)) {
-            throw new RateLimitExceededException(
-                "Gemini API rate limit exceeded. Maximum " + MAX_REQUESTS_PER_MINUTE + " requests per minute.");
-        }
+        checkRateLimit();
 
         try {
-            String url = geminiConfig.getEndpoint() + "?key=" + geminiConfig.getKey();
-
-            // Build request body
-            JsonObject requestBody = new JsonObject();
-            
-            JsonArray contents = new JsonArray();
-            JsonObject content = new JsonObject();
-            
-            JsonArray parts = new JsonArray();
-            JsonObject part = new JsonObject();
-            part.addProperty("text", prompt);
-            parts.add(part);
-            
-            content.add("parts", parts);
-            contents.add(content);
-            
-            requestBody.add("contents", contents);
+            String url = buildRequestUrl();
+            JsonObject requestBody = buildRequestBody(prompt);
 
             // Set up headers
             HttpHeaders headers = new HttpHeaders();
@@ -169,6 +255,86 @@ public class GeminiService {
         }
     }
 
+    /**
+     * Call Gemini API with the given prompt through the non-blocking WebClient.
+     * Retries server errors and connection failures with the same backoff as the blocking path.
+     */
+    private Mono<String> callGeminiApiAsync(String prompt) {
+        return Mono.defer(() -> {
+                    checkRateLimit();
+                    return webClient.post()
+                            .uri(buildRequestUrl())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(buildRequestBody(prompt).toString())
+                            .retrieve()
+                            .bodyToMono(String.class);
+                })
+                .retryWhen(Retry.backoff(MAX_ATTEMPTS - 1, RETRY_BACKOFF)
+                        .filter(this::isRetryable)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .switchIfEmpty(Mono.error(() -> new GeminiApiException("Empty response from AI service")))
+                .map(this::extractTextFromGeminiResponse)
+                .onErrorMap(this::toGeminiApiException);
+    }
+
+    /**
+     * Server errors and transport failures are worth retrying; client errors are not
+     */
+    private boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException) {
+            return ((WebClientResponseException) e).getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException;
+    }
+
+    private Throwable toGeminiApiException(Throwable e) {
+        if (e instanceof GeminiApiException || e instanceof RateLimitExceededException) {
+            return e;
+        }
+        if (e instanceof WebClientResponseException
+                && ((WebClientResponseException) e).getStatusCode().is4xxClientError()) {
+            log.error("Gemini API client error: {}", e.getMessage(), e);
+            return new GeminiApiException("Invalid request to AI service", e);
+        }
+        log.error("Failed to call Gemini API after {} attempts: {}", MAX_ATTEMPTS, e.getMessage(), e);
+        return new GeminiApiException("AI service unavailable after retries", e);
+    }
+
+    /**
+     * Consume one request from the rate limiter or fail
+     */
+    private void checkRateLimit() {
+        if (!rateLimiter.tryConsume(1)) {
+            throw new RateLimitExceededException(
+                "Gemini API rate limit exceeded. Maximum " + requestsPerMinute + " requests per minute.");
+        }
+    }
+
+    private String buildRequestUrl() {
+        return geminiConfig.getEndpoint() + "?key=" + geminiConfig.getKey();
+    }
+
+    /**
+     * Build the generateContent request body for a prompt
+     */
+    private JsonObject buildRequestBody(String prompt) {
+        JsonObject requestBody = new JsonObject();
+
+        JsonArray contents = new JsonArray();
+        JsonObject content = new JsonObject();
+
+        JsonArray parts = new JsonArray();
+        JsonObject part = new JsonObject();
+        part.addProperty("text", prompt);
+        parts.add(part);
+
+        content.add("parts", parts);
+        contents.add(content);
+
+        requestBody.add("contents", contents);
+        return requestBody;
+    }
+
     /**
      * Extract text content from Gemini API response
      */
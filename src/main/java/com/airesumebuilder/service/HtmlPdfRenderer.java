@@ -0,0 +1,35 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.model.ResumeData;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.OutputStream;
+
+/**
+ * PDF backend that renders the template HTML from PdfService with iText html2pdf.
+ * Full CSS support; the same output as single resume downloads.
+ */
+@Service
+public class HtmlPdfRenderer implements PdfRenderer {
+
+    public static final String NAME = "html";
+
+    @Autowired
+    private PdfService pdfService;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void writePdf(ResumeData resume, OutputStream outputStream) {
+        pdfService.writePdfFromHtml(pdfService.buildResumeHtml(resume), outputStream);
+    }
+
+    @Override
+    public void writePdf(ResumeData resume, String htmlContent, OutputStream outputStream) {
+        pdfService.writePdfFromHtml(htmlContent, outputStream);
+    }
+}
@@ -0,0 +1,338 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.exception.PdfGenerationException;
+import com.airesumebuilder.model.ResumeData;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.colors.Color;
+import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.kernel.colors.gradients.GradientColorStop;
+import com.itextpdf.kernel.colors.gradients.StrategyBasedLinearGradientBuilder;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.borders.SolidBorder;
+import com.itextpdf.layout.element.Div;
+import com.itextpdf.layout.element.ListItem;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Text;
+import com.itextpdf.layout.properties.BackgroundImage;
+import com.itextpdf.layout.properties.BorderRadius;
+import com.itextpdf.layout.properties.TextAlignment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Service class for rendering resume PDFs straight from ResumeData with the iText layout API.
+ * Skips HTML parsing and the CSS cascade of the html2pdf path, which makes it the cheaper
+ * renderer for bulk work. Each template is a fixed set of styles mirroring its stylesheet
+ * in PdfService, and the text matches the HTML path section for section.
+ *
+ * Features:
+ * - Same sections, order and wording as PdfService.buildResumeHtml
+ * - Per-template colours, sizes, borders and header gradients
+ * - Standard PDF fonts only, so output does not depend on the host
+ * - Sections kept on one page where they fit
+ */
+@Service
+public class LayoutPdfRenderer implements PdfRenderer {
+
+    public static final String NAME = "layout";
+
+    private static final Logger log = LoggerFactory.getLogger(LayoutPdfRenderer.class);
+
+    // CSS px to PDF points
+    private static final float PX = 0.75f;
+    private static final float MM = 72 / 25.4f;
+    // html2pdf default page margin, used by templates without an @page rule
+    private static final float DEFAULT_PAGE_MARGIN = 36;
+
+    private static final Map<ResumeTemplate, TemplateStyle> STYLES = templateStyles();
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void writePdf(ResumeData resume, OutputStream outputStream) {
+        TemplateStyle style = STYLES.get(ResumeTemplate.fromName(resume.getTemplate()));
+        PdfWriter writer = new PdfWriter(outputStream);
+        writer.setCloseStream(false);
+        try (Document document = new Document(new PdfDocument(writer), PageSize.A4)) {
+            new ResumeLayout(document, style).write(resume);
+            log.debug("Rendered layout PDF for resume ID {}", resume.getId());
+        } catch (IOException e) {
+            throw new PdfGenerationException("could not load fonts for resume " + resume.getId(), e);
+        }
+    }
+
+    /**
+     * Lays out one resume into one document
+     */
+    private static final class ResumeLayout {
+
+        private final Document document;
+        private final TemplateStyle style;
+        private final PdfFont regular;
+        private final PdfFont bold;
+        private final PdfFont italic;
+
+        ResumeLayout(Document document, TemplateStyle style) throws IOException {
+            this.document = document;
+            this.style = style;
+            // Standard fonts are not embedded; a new PdfFont per document is cheap
+            regular = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+            bold = PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD);
+            italic = PdfFontFactory.createFont(StandardFonts.HELVETICA_OBLIQUE);
+
+            document.setMargins(style.pageMarginY(), style.pageMarginX(), style.pageMarginY(), style.pageMarginX());
+            document.setFont(regular).setFontSize(11).setFontColor(style.text());
+        }
+
+        void write(ResumeData resume) {
+            writeHeader(resume);
+
+            String careerObj = preferEnhanced(resume.getEnhancedCareerObjective(), resume.getCareerObjective());
+            if (careerObj != null && !careerObj.isEmpty()) {
+                document.add(section("Career Objective").add(body(careerObj)));
+            }
+
+            String profSummary = preferEnhanced(resume.getEnhancedProfessionalSummary(), resume.getProfessionalSummary());
+            if (profSummary != null && !profSummary.isEmpty()) {
+                document.add(section("Professional Summary").add(body(profSummary)));
+            }
+
+            if (resume.getEducations() != null && !resume.getEducations().isEmpty()) {
+                Div section = section("Education");
+                resume.getEducations().forEach(edu -> {
+                    String details = "- " + edu.getUniversity() + " (" + edu.getGraduationYear() + ")";
+                    if (edu.getCgpa() != null) {
+                        details += "\nCGPA: " + edu.getCgpa();
+                    }
+                    section.add(item(edu.getDegree() + " in " + edu.getFieldOfStudy()).add(itemText(details)));
+                });
+                document.add(section);
+            }
+
+            if (resume.getSkills() != null && !resume.getSkills().isEmpty()) {
+                Paragraph badges = new Paragraph().setMultipliedLeading(2.2f).setMarginTop(10 * PX);
+                resume.getSkills().forEach(skill -> {
+                    String label = skill.getSkillName()
+                            + (skill.getProficiency() != null ? " (" + skill.getProficiency() + ")" : "");
+                    badges.add(badge(label)).add(new Text("   "));
+                });
+                document.add(section("Skills").add(badges));
+            }
+
+            if (resume.getProjects() != null && !resume.getProjects().isEmpty()) {
+                Div section = section("Projects");
+                resume.getProjects().forEach(project -> {
+                    Div item = item(project.getProjectName());
+                    Paragraph details = itemText(null);
+                    if (project.getStartDate() != null && project.getEndDate() != null) {
+                        details.add("(" + project.getStartDate() + " - " + project.getEndDate() + ")");
+                    }
+                    if (project.getDescription() != null) {
+                        details.add(lineBreak(details)).add(project.getDescription());
+                    }
+                    if (project.getTechnologies() != null) {
+                        details.add(lineBreak(details)).add(new Text("Technologies: " + project.getTechnologies())
+                                .setFont(italic).setFontSize(10).setFontColor(style.muted()));
+                    }
+                    if (!details.getChildren().isEmpty()) {
+                        item.add(details);
+                    }
+                    section.add(item);
+                });
+                document.add(section);
+            }
+
+            if (resume.getCertifications() != null && !resume.getCertifications().isEmpty()) {
+                Div section = section("Certifications");
+                resume.getCertifications().forEach(cert -> {
+                    String details = (cert.getIssuer() != null ? "- " + cert.getIssuer() + " " : "")
+                            + (cert.getIssueDate() != null ? "(" + cert.getIssueDate() + ")" : "");
+                    Div item = item(cert.getCertificationName());
+                    if (!details.isEmpty()) {
+                        item.add(itemText(details.trim()));
+                    }
+                    section.add(item);
+                });
+                document.add(section);
+            }
+
+            if (resume.getLanguages() != null && !resume.getLanguages().isEmpty()) {
+                StringBuilder languages = new StringBuilder();
+                for (int i = 0; i < resume.getLanguages().size(); i++) {
+                    if (i > 0) languages.append(", ");
+                    var lang = resume.getLanguages().get(i);
+                    languages.append(lang.getLanguageName());
+                    if (lang.getProficiency() != null) {
+                        languages.append(" (").append(lang.getProficiency()).append(")");
+                    }
+                }
+                document.add(section("Languages").add(body(languages.toString())));
+            }
+
+            if (resume.getAchievements() != null && !resume.getAchievements().isEmpty()) {
+                com.itextpdf.layout.element.List list = new com.itextpdf.layout.element.List()
+                        .setListSymbol("•").setSymbolIndent(8).setMarginLeft(20 * PX)
+                        .setMarginTop(8 * PX).setMarginBottom(8 * PX);
+                resume.getAchievements().forEach(achievement -> {
+                    String text = achievement.getAchievementTitle()
+                            + (achievement.getDescription() != null ? ": " + achievement.getDescription() : "");
+                    ListItem listItem = new ListItem();
+                    listItem.add(new Paragraph(text).setMargin(0).setMultipliedLeading(style.leading()));
+                    list.add(listItem);
+                });
+                document.add(section("Achievements").add(list));
+            }
+        }
+
+        private void writeHeader(ResumeData resume) {
+            String contact = resume.getEmail() + " | " + resume.getPhone() + " |"
+                    + (resume.getLocation() != null ? " " + resume.getLocation() : "");
+            Paragraph name = new Paragraph(resume.getFullName().toUpperCase())
+                    .setFont(bold).setFontSize(style.nameSize()).setMargin(0).setCharacterSpacing(1);
+            Paragraph contactInfo = new Paragraph(contact).setFontSize(style.contactSize()).setMarginTop(10).setMarginBottom(0);
+
+            Div header = new Div().setTextAlignment(TextAlignment.CENTER).setMarginBottom(style.headerGap())
+                    .add(name).add(contactInfo);
+            if (style.headerStart() == null) {
+                // Plain header: accent-coloured name over a rule
+                name.setFontColor(style.accent());
+                contactInfo.setFontColor(style.muted());
+                header.setPaddingBottom(15 * PX).setBorderBottom(new SolidBorder(style.accent(), 3 * PX));
+            } else {
+                header.setFontColor(DeviceRgb.WHITE).setPadding(style.headerPadding())
+                        .setBorderRadius(new BorderRadius(style.headerRadius()))
+                        .setBackgroundImage(gradient(style.headerStart(), style.headerEnd()));
+            }
+            document.add(header);
+        }
+
+        private Div section(String title) {
+            Div section = new Div().setKeepTogether(true).setMarginTop(style.sectionGap()).setMarginBottom(style.sectionGap());
+            if (style.sectionBackground() != null) {
+                section.setBackgroundColor(style.sectionBackground()).setPadding(20 * PX)
+                        .setBorderRadius(new BorderRadius(10 * PX));
+            }
+            return section.add(new Paragraph(title.toUpperCase())
+                    .setFont(bold).setFontSize(style.headingSize()).setFontColor(style.accent())
+                    .setCharacterSpacing(0.5f).setMarginTop(0).setMarginBottom(10 * PX).setPaddingBottom(6 * PX)
+                    .setBorderBottom(new SolidBorder(style.accent(), style.headingRule())));
+        }
+
+        private Div item(String title) {
+            Div item = new Div().setMarginTop(12 * PX).setMarginBottom(12 * PX);
+            if (style.itemBar() != null) {
+                item.setBorderLeft(new SolidBorder(style.itemBar(), 3 * PX)).setPaddingLeft(12 * PX);
+            }
+            if (style.itemBackground() != null) {
+                item.setBackgroundColor(style.itemBackground()).setPadding(12 * PX)
+                        .setBorderRadius(new BorderRadius(8 * PX));
+            }
+            return item.add(new Paragraph(String.valueOf(title))
+                    .setFont(bold).setFontSize(style.itemTitleSize()).setFontColor(style.itemTitle())
+                    .setMargin(0).setMarginBottom(3));
+        }
+
+        private Paragraph itemText(String text) {
+            Paragraph paragraph = new Paragraph().setMargin(0).setMultipliedLeading(style.leading());
+            return text == null ? paragraph : paragraph.add(text);
+        }
+
+        private Paragraph body(String text) {
+            return new Paragraph(text).setTextAlignment(TextAlignment.JUSTIFIED)
+                    .setMarginTop(8 * PX).setMarginBottom(8 * PX).setMultipliedLeading(style.leading());
+        }
+
+        private Text badge(String label) {
+            Text badge = new Text(style.badgeUppercase() ? label.toUpperCase() : label)
+                    .setFont(bold).setFontSize(10).setFontColor(style.badgeText())
+                    .setBackgroundColor(style.badgeBackground(), 8, 3, 8, 3);
+            if (style.badgeBorder() != null) {
+                badge.setBorder(new SolidBorder(style.badgeBorder(), 1.5f * PX));
+            }
+            return badge;
+        }
+
+        private String lineBreak(Paragraph paragraph) {
+            return paragraph.getChildren().isEmpty() ? "" : "\n";
+        }
+
+        private BackgroundImage gradient(Color start, Color end) {
+            return new BackgroundImage.Builder().setLinearGradientBuilder(new StrategyBasedLinearGradientBuilder()
+                    .setGradientDirectionAsStrategy(StrategyBasedLinearGradientBuilder.GradientStrategy.TO_BOTTOM_RIGHT)
+                    .addColorStop(new GradientColorStop(start.getColorValue(), 0, GradientColorStop.OffsetType.RELATIVE))
+                    .addColorStop(new GradientColorStop(end.getColorValue(), 1, GradientColorStop.OffsetType.RELATIVE)))
+                    .build();
+        }
+
+        private static String preferEnhanced(String enhanced, String original) {
+            return enhanced != null && !enhanced.isEmpty() ? enhanced : original;
+        }
+    }
+
+    /**
+     * Layout values of one template, taken from its stylesheet in PdfService
+     */
+    private record TemplateStyle(
+            float pageMarginX, float pageMarginY,
+            Color text, Color muted, Color accent,
+            Color headerStart, Color headerEnd, float headerPadding, float headerRadius, float headerGap,
+            float nameSize, float contactSize,
+            float sectionGap, Color sectionBackground, float headingSize, float headingRule,
+            Color itemTitle, float itemTitleSize, Color itemBar, Color itemBackground,
+            Color badgeBackground, Color badgeText, Color badgeBorder, boolean badgeUppercase,
+            float leading) {
+    }
+
+    private static Map<ResumeTemplate, TemplateStyle> templateStyles() {
+        Map<ResumeTemplate, TemplateStyle> styles = new EnumMap<>(ResumeTemplate.class);
+        DeviceRgb classicBlue = rgb(0x1a5490);
+        styles.put(ResumeTemplate.CLASSIC, new TemplateStyle(
+                20 * MM, 20 * MM,
+                rgb(0x2b2b2b), rgb(0x555555), classicBlue,
+                null, null, 0, 0, 25 * PX,
+                28, 10.5f,
+                20 * PX, null, 14, 2 * PX,
+                rgb(0x2b2b2b), 11.5f, null, null,
+                rgb(0xf8f9fa), classicBlue, classicBlue, false,
+                1.4f));
+        DeviceRgb modernBlue = rgb(0x667eea);
+        styles.put(ResumeTemplate.MODERN, new TemplateStyle(
+                DEFAULT_PAGE_MARGIN + 35 * PX, DEFAULT_PAGE_MARGIN + 25 * PX,
+                rgb(0x2c3e50), rgb(0x7f8c8d), modernBlue,
+                modernBlue, rgb(0x764ba2), 30 * PX, 10 * PX, 35 * PX,
+                36 * PX, 12,
+                28 * PX, null, 18, 3 * PX,
+                rgb(0x2c3e50), 13, rgb(0xe8eaf6), null,
+                modernBlue, DeviceRgb.WHITE, null, false,
+                1.5f));
+        DeviceRgb creativeOrange = rgb(0xf39c12);
+        styles.put(ResumeTemplate.CREATIVE, new TemplateStyle(
+                DEFAULT_PAGE_MARGIN + 35 * PX, DEFAULT_PAGE_MARGIN + 25 * PX,
+                rgb(0x34495e), rgb(0x95a5a6), creativeOrange,
+                creativeOrange, rgb(0xe67e22), 35 * PX, 15 * PX, 35 * PX,
+                38 * PX, 12,
+                28 * PX, DeviceRgb.WHITE, 20, 4 * PX,
+                rgb(0xe74c3c), 13, creativeOrange, rgb(0xf8f9fa),
+                creativeOrange, DeviceRgb.WHITE, null, true,
+                1.6f));
+        return styles;
+    }
+
+    private static DeviceRgb rgb(int hex) {
+        return new DeviceRgb((hex >> 16) & 0xff, (hex >> 8) & 0xff, hex & 0xff);
+    }
+}
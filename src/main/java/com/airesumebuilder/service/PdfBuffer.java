@@ -0,0 +1,109 @@
+package com.airesumebuilder.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Holds a rendered PDF until the request thread copies it to the client, so render
+ * workers never wait on a slow socket.
+ * Output stays in memory up to a limit and spills into a temporary file beyond it.
+ * The file is opened delete-on-close, so it goes away with {@link #discard()}.
+ */
+public class PdfBuffer extends OutputStream {
+
+    private final long memoryLimit;
+    private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+    private FileChannel spillFile;
+    private long size;
+
+    public PdfBuffer(long memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (memory != null && memory.size() + len > memoryLimit) {
+            spill();
+        }
+        if (memory != null) {
+            memory.write(b, off, len);
+        } else {
+            ByteBuffer chunk = ByteBuffer.wrap(b, off, len);
+            while (chunk.hasRemaining()) {
+                spillFile.write(chunk);
+            }
+        }
+        size += len;
+    }
+
+    /**
+     * Number of bytes written so far
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Whether the output still fits in memory
+     */
+    public boolean isInMemory() {
+        return memory != null;
+    }
+
+    /**
+     * The buffered bytes, or null once the output has spilled to disk
+     */
+    public byte[] toByteArray() {
+        return memory == null ? null : memory.toByteArray();
+    }
+
+    /**
+     * Copy everything written so far to the given stream
+     */
+    public void writeTo(OutputStream target) throws IOException {
+        if (memory != null) {
+            memory.writeTo(target);
+            return;
+        }
+        spillFile.position(0);
+        Channels.newInputStream(spillFile).transferTo(target);
+    }
+
+    /**
+     * Release the memory or temporary file behind this buffer
+     */
+    public void discard() {
+        memory = null;
+        if (spillFile != null) {
+            try {
+                spillFile.close();
+            } catch (IOException ignored) {
+                // The file is deleted on close; nothing else to release
+            }
+            spillFile = null;
+        }
+    }
+
+    private void spill() throws IOException {
+        Path file = Files.createTempFile("pdf-render-", ".pdf");
+        spillFile = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+        ByteBuffer buffered = ByteBuffer.wrap(memory.toByteArray());
+        while (buffered.hasRemaining()) {
+            spillFile.write(buffered);
+        }
+        memory = null;
+    }
+}
@@ -0,0 +1,237 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.config.PdfCacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service class for caching generated resume PDFs.
+ * Entries are content-addressed: the key combines the resume id, the template and
+ * a hash of the rendered HTML, so any change to the resume produces a new key.
+ *
+ * Features:
+ * - Size-bounded in-memory LRU tier
+ * - Optional size-bounded on-disk tier
+ * - Invalidation of all entries of a resume
+ */
+@Service
+public class PdfCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfCacheService.class);
+    private static final String FILE_SUFFIX = ".pdf";
+
+    @Autowired
+    private PdfCacheConfig pdfCacheConfig;
+
+    // Access-ordered so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, byte[]> memoryTier = new LinkedHashMap<>(64, 0.75f, true);
+    private long memoryBytes;
+
+    /**
+     * Build the cache key for a rendered resume
+     */
+    public String cacheKey(Long resumeId, ResumeTemplate template, String html) {
+        return resumeId + "-" + template.getName() + "-" + sha256(html);
+    }
+
+    /**
+     * Build the cache key for a resume rendered by the named renderer.
+     * The HTML still identifies the content; the renderer keeps PDFs of different backends apart,
+     * while HTML renders share keys with single downloads.
+     */
+    public String cacheKey(Long resumeId, ResumeTemplate template, String renderer, String html) {
+        if (HtmlPdfRenderer.NAME.equals(renderer)) {
+            return cacheKey(resumeId, template, html);
+        }
+        return resumeId + "-" + template.getName() + "-" + renderer + "-" + sha256(html);
+    }
+
+    /**
+     * Look up a cached PDF, promoting disk hits into memory
+     */
+    public Optional<byte[]> get(String key) {
+        if (!pdfCacheConfig.isEnabled()) {
+            return Optional.empty();
+        }
+        synchronized (memoryTier) {
+            byte[] cached = memoryTier.get(key);
+            if (cached != null) {
+                log.debug("PDF cache memory hit: {}", key);
+                return Optional.of(cached);
+            }
+        }
+        if (pdfCacheConfig.isDiskEnabled()) {
+            Path file = diskPath(key);
+            if (Files.isRegularFile(file)) {
+                try {
+                    byte[] cached = Files.readAllBytes(file);
+                    putInMemory(key, cached);
+                    log.debug("PDF cache disk hit: {}", key);
+                    return Optional.of(cached);
+                } catch (IOException e) {
+                    log.warn("Could not read cached PDF {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Store a rendered PDF in every enabled tier
+     */
+    public void put(String key, byte[] pdfBytes) {
+        if (!pdfCacheConfig.isEnabled() || pdfBytes.length > pdfCacheConfig.getMaxEntryBytes()) {
+            return;
+        }
+        putInMemory(key, pdfBytes);
+        if (pdfCacheConfig.isDiskEnabled()) {
+            writeToDisk(key, pdfBytes);
+        }
+    }
+
+    /**
+     * Largest PDF the cache accepts, also the in-memory limit for freshly rendered PDFs
+     */
+    public long getMaxEntryBytes() {
+        return pdfCacheConfig.getMaxEntryBytes();
+    }
+
+    /**
+     * Drop every cached PDF of a resume
+     */
+    public void evict(Long resumeId) {
+        String prefix = resumeId + "-";
+        synchronized (memoryTier) {
+            Iterator<Map.Entry<String, byte[]>> it = memoryTier.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, byte[]> entry = it.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    memoryBytes -= entry.getValue().length;
+                    it.remove();
+                }
+            }
+        }
+        if (pdfCacheConfig.isDiskEnabled()) {
+            for (Path file : listDiskEntries()) {
+                if (file.getFileName().toString().startsWith(prefix)) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+        log.debug("Evicted cached PDFs for resume ID: {}", resumeId);
+    }
+
+    private void putInMemory(String key, byte[] pdfBytes) {
+        synchronized (memoryTier) {
+            byte[] previous = memoryTier.put(key, pdfBytes);
+            if (previous != null) {
+                memoryBytes -= previous.length;
+            }
+            memoryBytes += pdfBytes.length;
+
+            Iterator<byte[]> it = memoryTier.values().iterator();
+            while (memoryBytes > pdfCacheConfig.getMaxBytes() && it.hasNext()) {
+                memoryBytes -= it.next().length;
+                it.remove();
+            }
+        }
+    }
+
+    private void writeToDisk(String key, byte[] pdfBytes) {
+        try {
+            Path directory = Paths.get(pdfCacheConfig.getDiskDirectory());
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, key, ".tmp");
+            Files.write(tmp, pdfBytes);
+            Files.move(tmp, diskPath(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            trimDisk();
+        } catch (IOException e) {
+            log.warn("Could not write cached PDF {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Delete the oldest files until the disk tier fits its budget
+     */
+    private void trimDisk() throws IOException {
+        List<Path> files = listDiskEntries();
+        long total = 0;
+        for (Path file : files) {
+            total += Files.size(file);
+        }
+        if (total <= pdfCacheConfig.getDiskMaxBytes()) {
+            return;
+        }
+        files.sort(Comparator.comparingLong(this::lastModified));
+        for (Path file : files) {
+            if (total <= pdfCacheConfig.getDiskMaxBytes()) {
+                break;
+            }
+            total -= Files.size(file);
+            deleteQuietly(file);
+        }
+    }
+
+    private List<Path> listDiskEntries() {
+        List<Path> files = new ArrayList<>();
+        Path directory = Paths.get(pdfCacheConfig.getDiskDirectory());
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            log.warn("Could not list PDF cache directory {}: {}", directory, e.getMessage());
+        }
+        return files;
+    }
+
+    private Path diskPath(String key) {
+        return Paths.get(pdfCacheConfig.getDiskDirectory(), key + FILE_SUFFIX);
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete cached PDF {}: {}", file, e.getMessage());
+        }
+    }
+
+    private String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
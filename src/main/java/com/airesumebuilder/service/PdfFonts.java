@@ -0,0 +1,37 @@
+package com.airesumebuilder.service;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.resolver.font.DefaultFontProvider;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.layout.font.FontSet;
+import com.itextpdf.styledxmlparser.resolver.font.BasicFontProvider;
+
+/**
+ * Fonts for PDF rendering, resolved once and shared by every conversion.
+ * Without this, each HtmlConverter call builds its own DefaultFontProvider and re-reads
+ * the font files shipped with html2pdf.
+ *
+ * The set holds the standard PDF fonts and the fonts shipped with html2pdf, never system
+ * fonts, so output does not depend on the host. Template font stacks end in Helvetica so
+ * they resolve to a standard font here.
+ */
+final class PdfFonts {
+
+    private static final String DEFAULT_FAMILY = StandardFonts.TIMES_ROMAN;
+
+    private final FontSet fontSet;
+
+    PdfFonts() {
+        // Standard and shipped fonts only: no system font scan
+        fontSet = new DefaultFontProvider(true, true, false).getFontSet();
+    }
+
+    /**
+     * Converter settings for one document.
+     * A FontProvider caches fonts bound to the document being written, so each document needs
+     * its own provider; providers are cheap because they all read the same pre-built font set.
+     */
+    ConverterProperties converterProperties() {
+        return new ConverterProperties().setFontProvider(new BasicFontProvider(fontSet, DEFAULT_FAMILY));
+    }
+}
@@ -0,0 +1,200 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.config.PdfRenderConfig;
+import com.airesumebuilder.exception.PdfGenerationException;
+import com.airesumebuilder.exception.PdfRenderCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dedicated worker pool for PDF rendering.
+ * Keeps CPU-heavy renders off the servlet threads and rejects work up front
+ * when both the workers and the queue are busy.
+ *
+ * Features:
+ * - Fixed number of render threads with a bounded queue
+ * - Admission control through reservable render slots
+ * - Micrometer metrics for queue depth, wait time and render time
+ */
+@Component
+public class PdfRenderExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfRenderExecutor.class);
+
+    @Autowired
+    private PdfRenderConfig pdfRenderConfig;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor executor;
+    private Semaphore admissions;
+    private Timer waitTimer;
+    private Timer renderTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void start() {
+        int poolSize = pdfRenderConfig.getPoolSize();
+        int queueCapacity = pdfRenderConfig.getQueueCapacity();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "pdf-render-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // Every admitted task is guaranteed a worker or a queue slot
+        admissions = new Semaphore(poolSize + queueCapacity);
+
+        Gauge.builder("pdf.render.queue.depth", executor, e -> e.getQueue().size())
+                .description("PDF renders waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("pdf.render.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("PDF renders in progress")
+                .register(meterRegistry);
+        waitTimer = Timer.builder("pdf.render.wait")
+                .description("Time from admission until a render starts")
+                .register(meterRegistry);
+        renderTimer = Timer.builder("pdf.render.time")
+                .description("Time spent rendering a PDF")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("pdf.render.rejected")
+                .description("Renders rejected because the pool was saturated")
+                .register(meterRegistry);
+
+        log.info("PDF render pool started with {} workers and queue capacity {}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Reserve capacity for one render, failing fast when the pool is saturated
+     */
+    public RenderSlot reserve() {
+        if (!admissions.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new PdfRenderCapacityExceededException(
+                    "PDF rendering is at capacity, please retry shortly", pdfRenderConfig.getRetryAfterSeconds());
+        }
+        return new RenderSlot(System.nanoTime());
+    }
+
+    /**
+     * Reserve capacity for one render, waiting up to the given time for a slot to free up.
+     * Meant for batch work, which should queue behind other renders rather than fail at once.
+     */
+    public RenderSlot reserve(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!admissions.tryAcquire(timeout, unit)) {
+            rejectedCounter.increment();
+            throw new PdfRenderCapacityExceededException(
+                    "PDF rendering is at capacity, please retry shortly", pdfRenderConfig.getRetryAfterSeconds());
+        }
+        return new RenderSlot(System.nanoTime());
+    }
+
+    /**
+     * Reserve a slot and run the render on the pool, waiting for the result
+     */
+    public <T> T render(Callable<T> task) throws IOException {
+        return reserve().run(task);
+    }
+
+    /**
+     * Capacity reserved for a single render.
+     * Must be either run or released, otherwise the slot is lost.
+     */
+    public class RenderSlot {
+
+        private final long reservedAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private RenderSlot(long reservedAt) {
+            this.reservedAt = reservedAt;
+        }
+
+        /**
+         * Run the render on the pool and wait for it, releasing the slot afterwards
+         */
+        public <T> T run(Callable<T> task) throws IOException {
+            try {
+                Future<T> future = executor.submit(() -> {
+                    waitTimer.record(System.nanoTime() - reservedAt, TimeUnit.NANOSECONDS);
+                    return renderTimer.recordCallable(task);
+                });
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PdfGenerationException("interrupted while waiting for render", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new PdfGenerationException(String.valueOf(cause.getMessage()), cause);
+            } finally {
+                release();
+            }
+        }
+
+        /**
+         * Start the render on the pool without waiting for it; the slot is released when it finishes
+         */
+        public <T> CompletableFuture<T> submit(Callable<T> task) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            try {
+                executor.execute(() -> {
+                    try {
+                        waitTimer.record(System.nanoTime() - reservedAt, TimeUnit.NANOSECONDS);
+                        result.complete(renderTimer.recordCallable(task));
+                    } catch (Throwable e) {
+                        result.completeExceptionally(e);
+                    } finally {
+                        release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                release();
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+
+        /**
+         * Give the slot back without rendering
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                admissions.release();
+            }
+        }
+    }
+}
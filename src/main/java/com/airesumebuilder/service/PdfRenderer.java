@@ -0,0 +1,49 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.model.ResumeData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
+/**
+ * A PDF rendering backend for resumes.
+ * Backends are Spring beans looked up by name through PdfRendererRegistry.
+ */
+public interface PdfRenderer {
+
+    /**
+     * Name used to select this backend in configuration
+     */
+    String getName();
+
+    /**
+     * Render a resume straight into the given stream, leaving the stream open
+     */
+    void writePdf(ResumeData resume, OutputStream outputStream);
+
+    /**
+     * Render a resume whose template HTML the caller already built.
+     * Backends that render from the HTML use it instead of building it again; the others ignore it.
+     */
+    default void writePdf(ResumeData resume, String htmlContent, OutputStream outputStream) {
+        writePdf(resume, outputStream);
+    }
+
+    /**
+     * Render a resume to PDF bytes
+     */
+    default byte[] renderPdf(ResumeData resume) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writePdf(resume, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Render a resume whose template HTML the caller already built to PDF bytes
+     */
+    default byte[] renderPdf(ResumeData resume, String htmlContent) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writePdf(resume, htmlContent, outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,53 @@
+package com.airesumebuilder.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Looks up PDF rendering backends by name and resolves the backend configured for a template
+ */
+@Component
+public class PdfRendererRegistry {
+
+    @Autowired
+    private List<PdfRenderer> renderers;
+
+    /**
+     * Backend with the given name
+     */
+    public PdfRenderer get(String name) {
+        for (PdfRenderer renderer : renderers) {
+            if (renderer.getName().equalsIgnoreCase(name.trim())) {
+                return renderer;
+            }
+        }
+        throw new IllegalArgumentException("Unknown PDF renderer '" + name + "', expected one of " + getNames());
+    }
+
+    /**
+     * Backend for a template: its entry in the per-template map, else the default engine
+     */
+    public PdfRenderer forTemplate(ResumeTemplate template, String defaultEngine, Map<String, String> templateEngines) {
+        String engine = templateEngines.getOrDefault(template.getName(), defaultEngine);
+        return get(engine);
+    }
+
+    /**
+     * Check an engine configuration up front so a typo fails at startup, not mid-export
+     */
+    public void validate(String defaultEngine, Map<String, String> templateEngines) {
+        get(defaultEngine);
+        templateEngines.values().forEach(this::get);
+    }
+
+    public Set<String> getNames() {
+        Set<String> names = new TreeSet<>();
+        renderers.forEach(renderer -> names.add(renderer.getName()));
+        return names;
+    }
+}
@@ -2,11 +2,16 @@ package com.airesumebuilder.service;
 
 import com.airesumebuilder.model.ResumeData;
 import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.kernel.pdf.PdfWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Service class for PDF generation.
@@ -16,19 +21,52 @@ import java.io.ByteArrayOutputStream;
  * - Convert HTML template to PDF
  * - Apply styling and formatting
  * - Support for multiple resume templates
+ * - Templates compiled once at startup; only resume fields are filled in per request
+ * - User text escaped so markup characters in it cannot break the document
+ * - Fonts resolved once at startup and shared by all conversions, independent of host fonts
+ * - Multi-resume books rendered into a single PDF with shared fonts
  */
 @Service
 public class PdfService {
 
     private static final Logger log = LoggerFactory.getLogger(PdfService.class);
 
+    private static final String DOCUMENT_END = "</body></html>";
+
+    // Rough per-item markup size used to pre-size the HTML buffer
+    private static final int ITEM_MARKUP_ESTIMATE = 96;
+    private static final int SECTION_MARKUP_ESTIMATE = 64;
+
+    /**
+     * Pre-serialized document head (meta + inlined styles + body open) per template.
+     * Built once so the multi-kilobyte CSS is not re-concatenated for every resume.
+     */
+    private final Map<ResumeTemplate, String> compiledTemplateHeads = compileTemplateHeads();
+
+    /**
+     * Fonts resolved once at startup and shared by every conversion
+     */
+    private final PdfFonts pdfFonts = new PdfFonts();
+
     /**
      * Generate PDF from HTML content
      */
     public byte[] generatePdfFromHtml(String htmlContent) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writePdfFromHtml(htmlContent, outputStream);
+
+        byte[] pdfBytes = outputStream.toByteArray();
+        log.info("Successfully generated PDF, size: {} bytes", pdfBytes.length);
+
+        return pdfBytes;
+    }
+
+    /**
+     * Render PDF from HTML content straight into the given stream.
+     * The stream is left open so callers can keep writing to it.
+     */
+    public void writePdfFromHtml(String htmlContent, OutputStream outputStream) {
         try {
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            
             // Ensure proper HTML structure
             String fullHtml = htmlContent;
             if (!htmlContent.toLowerCase().contains("<html")) {
@@ -36,41 +74,45 @@ public class PdfService {
                           htmlContent + 
                           "</body></html>";
             }
-            
+
+            PdfWriter writer = new PdfWriter(outputStream);
+            writer.setCloseStream(false);
+
             // Convert HTML to PDF using iText
-            HtmlConverter.convertToPdf(fullHtml, outputStream);
-            
-            byte[] pdfBytes = outputStream.toByteArray();
-            log.info("Successfully generated PDF, size: {} bytes", pdfBytes.length);
-            
-            return pdfBytes;
+            HtmlConverter.convertToPdf(fullHtml, writer, pdfFonts.converterProperties());
         } catch (Exception e) {
             log.error("Error generating PDF: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to generate PDF: " + e.getMessage());
         }
     }
 
+    /**
+     * Open a book that lays out many resumes into one PDF written to the given stream.
+     * Fonts and other resources are shared across resumes instead of being embedded per resume.
+     */
+    public ResumeBook openResumeBook(OutputStream outputStream) {
+        return new ResumeBook(outputStream, pdfFonts.converterProperties());
+    }
+
     /**
      * Build HTML content for resume from resume data
      */
     public String buildResumeHtml(ResumeData resume) {
         try {
-            StringBuilder html = new StringBuilder();
-            
+            String templateHead = compiledTemplateHeads.get(ResumeTemplate.fromName(resume.getTemplate()));
+            StringBuilder html = new StringBuilder(templateHead.length() + estimateBodyLength(resume));
+
             // HTML Header and Styling
-            html.append("<html><head><meta charset='UTF-8'>");
-            html.append("<style>");
-            html.append(getResumeStyles(resume.getTemplate()));
-            html.append("</style></head><body>");
+            html.append(templateHead);
 
             // Personal Information
             html.append("<div class='header'>");
-            html.append("<h1>").append(resume.getFullName()).append("</h1>");
+            html.append("<h1>").append(text(resume.getFullName())).append("</h1>");
             html.append("<p class='contact-info'>");
-            html.append(resume.getEmail()).append(" | ");
-            html.append(resume.getPhone()).append(" | ");
+            html.append(text(resume.getEmail())).append(" | ");
+            html.append(text(resume.getPhone())).append(" | ");
             if (resume.getLocation() != null) {
-                html.append(resume.getLocation());
+                html.append(text(resume.getLocation()));
             }
             html.append("</p>");
             html.append("</div>");
@@ -82,7 +124,7 @@ public class PdfService {
             if (careerObj != null && !careerObj.isEmpty()) {
                 html.append("<div class='section'>");
                 html.append("<h2>Career Objective</h2>");
-                html.append("<p>").append(careerObj).append("</p>");
+                html.append("<p>").append(text(careerObj)).append("</p>");
                 html.append("</div>");
             }
 
@@ -93,7 +135,7 @@ public class PdfService {
             if (profSummary != null && !profSummary.isEmpty()) {
                 html.append("<div class='section'>");
                 html.append("<h2>Professional Summary</h2>");
-                html.append("<p>").append(profSummary).append("</p>");
+                html.append("<p>").append(text(profSummary)).append("</p>");
                 html.append("</div>");
             }
 
@@ -103,11 +145,11 @@ public class PdfService {
                 html.append("<h2>Education</h2>");
                 resume.getEducations().forEach(edu -> {
                     html.append("<div class='item'>");
-                    html.append("<strong>").append(edu.getDegree()).append(" in ").append(edu.getFieldOfStudy())
-                        .append("</strong> - ").append(edu.getUniversity()).append(" (")
-                        .append(edu.getGraduationYear()).append(")");
+                    html.append("<strong>").append(text(edu.getDegree())).append(" in ").append(text(edu.getFieldOfStudy()))
+                        .append("</strong> - ").append(text(edu.getUniversity())).append(" (")
+                        .append(text(edu.getGraduationYear())).append(")");
                     if (edu.getCgpa() != null) {
-                        html.append("<br/>CGPA: ").append(edu.getCgpa());
+                        html.append("<br/>CGPA: ").append(text(edu.getCgpa()));
                     }
                     html.append("</div>");
                 });
@@ -120,9 +162,9 @@ public class PdfService {
                 html.append("<h2>Skills</h2>");
                 html.append("<div class='skills-grid'>");
                 resume.getSkills().forEach(skill -> {
-                    html.append("<span class='skill-badge'>").append(skill.getSkillName());
+                    html.append("<span class='skill-badge'>").append(text(skill.getSkillName()));
                     if (skill.getProficiency() != null) {
-                        html.append(" (").append(skill.getProficiency()).append(")");
+                        html.append(" (").append(text(skill.getProficiency())).append(")");
                     }
                     html.append("</span>");
                 });
@@ -136,16 +178,16 @@ public class PdfService {
                 html.append("<h2>Projects</h2>");
                 resume.getProjects().forEach(project -> {
                     html.append("<div class='item'>");
-                    html.append("<strong>").append(project.getProjectName()).append("</strong>");
+                    html.append("<strong>").append(text(project.getProjectName())).append("</strong>");
                     if (project.getStartDate() != null && project.getEndDate() != null) {
-                        html.append(" (").append(project.getStartDate()).append(" - ")
-                            .append(project.getEndDate()).append(")");
+                        html.append(" (").append(text(project.getStartDate())).append(" - ")
+                            .append(text(project.getEndDate())).append(")");
                     }
                     if (project.getDescription() != null) {
-                        html.append("<br/>").append(project.getDescription());
+                        html.append("<br/>").append(text(project.getDescription()));
                     }
                     if (project.getTechnologies() != null) {
-                        html.append("<br/><em>Technologies: ").append(project.getTechnologies()).append("</em>");
+                        html.append("<br/><em>Technologies: ").append(text(project.getTechnologies())).append("</em>");
                     }
                     html.append("</div>");
                 });
@@ -158,12 +200,12 @@ public class PdfService {
                 html.append("<h2>Certifications</h2>");
                 resume.getCertifications().forEach(cert -> {
                     html.append("<div class='item'>");
-                    html.append("<strong>").append(cert.getCertificationName()).append("</strong>");
+                    html.append("<strong>").append(text(cert.getCertificationName())).append("</strong>");
                     if (cert.getIssuer() != null) {
-                        html.append(" - ").append(cert.getIssuer());
+                        html.append(" - ").append(text(cert.getIssuer()));
                     }
                     if (cert.getIssueDate() != null) {
-                        html.append(" (").append(cert.getIssueDate()).append(")");
+                        html.append(" (").append(text(cert.getIssueDate())).append(")");
                     }
                     html.append("</div>");
                 });
@@ -178,9 +220,9 @@ public class PdfService {
                 for (int i = 0; i < resume.getLanguages().size(); i++) {
                     if (i > 0) html.append(", ");
                     var lang = resume.getLanguages().get(i);
-                    html.append(lang.getLanguageName());
+                    html.append(text(lang.getLanguageName()));
                     if (lang.getProficiency() != null) {
-                        html.append(" (").append(lang.getProficiency()).append(")");
+                        html.append(" (").append(text(lang.getProficiency())).append(")");
                     }
                 }
                 html.append("</p>");
@@ -193,9 +235,9 @@ public class PdfService {
                 html.append("<h2>Achievements</h2>");
                 html.append("<ul>");
                 resume.getAchievements().forEach(achievement -> {
-                    html.append("<li>").append(achievement.getAchievementTitle());
+                    html.append("<li>").append(text(achievement.getAchievementTitle()));
                     if (achievement.getDescription() != null) {
-                        html.append(": ").append(achievement.getDescription());
+                        html.append(": ").append(text(achievement.getDescription()));
                     }
                     html.append("</li>");
                 });
@@ -203,7 +245,7 @@ public class PdfService {
                 html.append("</div>");
             }
 
-            html.append("</body></html>");
+            html.append(DOCUMENT_END);
             
             return html.toString();
         } catch (Exception e) {
@@ -212,16 +254,82 @@ public class PdfService {
         }
     }
 
+    /**
+     * Compile the document head for every template
+     */
+    private Map<ResumeTemplate, String> compileTemplateHeads() {
+        Map<ResumeTemplate, String> heads = new EnumMap<>(ResumeTemplate.class);
+        for (ResumeTemplate template : ResumeTemplate.values()) {
+            heads.put(template, "<html><head><meta charset='UTF-8'><style>"
+                    + getResumeStyles(template)
+                    + "</style></head><body>");
+        }
+        log.debug("Compiled {} resume templates", heads.size());
+        return heads;
+    }
+
+    /**
+     * Estimate the body length of a resume so the HTML buffer is sized once
+     */
+    private int estimateBodyLength(ResumeData resume) {
+        int length = DOCUMENT_END.length() + 7 * SECTION_MARKUP_ESTIMATE;
+        length += lengthOf(resume.getFirstName()) + lengthOf(resume.getLastName())
+                + lengthOf(resume.getEmail()) + lengthOf(resume.getPhone()) + lengthOf(resume.getLocation());
+        length += Math.max(lengthOf(resume.getCareerObjective()), lengthOf(resume.getEnhancedCareerObjective()));
+        length += Math.max(lengthOf(resume.getProfessionalSummary()), lengthOf(resume.getEnhancedProfessionalSummary()));
+        length += estimateItems(resume.getEducations(), 64);
+        length += estimateItems(resume.getSkills(), 24);
+        length += estimateItems(resume.getProjects(), 320);
+        length += estimateItems(resume.getCertifications(), 96);
+        length += estimateItems(resume.getLanguages(), 24);
+        length += estimateItems(resume.getAchievements(), 160);
+        return length;
+    }
+
+    private int estimateItems(List<?> items, int averageContentLength) {
+        return items == null ? 0 : items.size() * (ITEM_MARKUP_ESTIMATE + averageContentLength);
+    }
+
+    /**
+     * Escape user text so markup characters in it render as text instead of breaking the document.
+     * '&' is escaped as well, so text such as "&amp;" or "&copy;" is printed as typed rather than
+     * decoded as an entity. Text without '<', '>' or '&', the common case, is returned as is
+     * without copying.
+     */
+    static String text(Object value) {
+        String raw = String.valueOf(value);
+        StringBuilder escaped = null;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c != '<' && c != '>' && c != '&') {
+                if (escaped != null) {
+                    escaped.append(c);
+                }
+                continue;
+            }
+            if (escaped == null) {
+                escaped = new StringBuilder(raw.length() + 16).append(raw, 0, i);
+            }
+            escaped.append(c == '<' ? "&lt;" : c == '>' ? "&gt;" : "&amp;");
+        }
+        return escaped == null ? raw : escaped.toString();
+    }
+
+    private int lengthOf(String value) {
+        return value == null ? 0 : value.length();
+    }
+
     /**
      * Get CSS styles based on template selection
      */
-    private String getResumeStyles(String template) {
-        if ("modern".equalsIgnoreCase(template)) {
-            return getModernStyles();
-        } else if ("creative".equalsIgnoreCase(template)) {
-            return getCreativeStyles();
-        } else {
-            return getClassicStyles();
+    private String getResumeStyles(ResumeTemplate template) {
+        switch (template) {
+            case MODERN:
+                return getModernStyles();
+            case CREATIVE:
+                return getCreativeStyles();
+            default:
+                return getClassicStyles();
         }
     }
 
@@ -332,7 +440,7 @@ public class PdfService {
     private String getModernStyles() {
         return """
             body {
-                font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
+                font-family: 'Segoe UI', Tahoma, Geneva, Verdana, Helvetica, sans-serif;
                 line-height: 1.7;
                 color: #2c3e50;
                 margin: 25px 35px;
@@ -429,7 +537,7 @@ public class PdfService {
     private String getCreativeStyles() {
         return """
             body {
-                font-family: 'Trebuchet MS', 'Helvetica Neue', Arial, sans-serif;
+                font-family: 'Trebuchet MS', 'Helvetica Neue', Arial, Helvetica, sans-serif;
                 line-height: 1.8;
                 color: #34495e;
                 margin: 25px 35px;
@@ -0,0 +1,53 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.model.ResumeData;
+
+/**
+ * A resume PDF ready to be sent to the client.
+ * Holds either the cached PDF bytes, or the fully loaded resume that still has to be rendered
+ * together with its template HTML, the renderer chosen for its template and the render slot
+ * reserved for it.
+ */
+public class PreparedPdf {
+
+    private final Long resumeId;
+    private final String cacheKey;
+    private final ResumeData resume;
+    private final String htmlContent;
+    private final PdfRenderer renderer;
+    private final byte[] cachedBytes;
+    private final PdfRenderExecutor.RenderSlot renderSlot;
+
+    public PreparedPdf(Long resumeId, String cacheKey, ResumeData resume, String htmlContent,
+                       PdfRenderer renderer, byte[] cachedBytes, PdfRenderExecutor.RenderSlot renderSlot) {
+        this.resumeId = resumeId;
+        this.cacheKey = cacheKey;
+        this.resume = resume;
+        this.htmlContent = htmlContent;
+        this.renderer = renderer;
+        this.cachedBytes = cachedBytes;
+        this.renderSlot = renderSlot;
+    }
+
+    /**
+     * Whether the PDF can be served without rendering
+     */
+    public boolean isCached() {
+        return cachedBytes != null;
+    }
+
+    // Getters
+    public Long getResumeId() { return resumeId; }
+
+    public String getCacheKey() { return cacheKey; }
+
+    public ResumeData getResume() { return resume; }
+
+    public String getHtmlContent() { return htmlContent; }
+
+    public PdfRenderer getRenderer() { return renderer; }
+
+    public byte[] getCachedBytes() { return cachedBytes; }
+
+    public PdfRenderExecutor.RenderSlot getRenderSlot() { return renderSlot; }
+}
@@ -0,0 +1,90 @@
+package com.airesumebuilder.service;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfOutline;
+import com.itextpdf.kernel.pdf.PdfString;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.WriterProperties;
+import com.itextpdf.kernel.pdf.navigation.PdfDestination;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.IBlockElement;
+import com.itextpdf.layout.element.IElement;
+import com.itextpdf.layout.element.Image;
+import com.itextpdf.layout.properties.AreaBreakType;
+import com.itextpdf.layout.properties.Property;
+
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * A single PDF holding many resumes, each starting on a new page with its own bookmark.
+ * All resumes are laid out into one document through one font provider, so every font is
+ * embedded once, as one subset for the whole book, instead of once per resume.
+ * Pages are flushed to the stream as they fill up.
+ *
+ * Must be closed to finish the PDF; the underlying stream is left open.
+ */
+public class ResumeBook implements AutoCloseable {
+
+    // Converted elements ignore @page rules, so the book uses the classic template margin throughout
+    private static final float PAGE_MARGIN = 20 * 72 / 25.4f;
+
+    private final PdfDocument pdfDocument;
+    private final Document document;
+    private final ConverterProperties converterProperties;
+    private final PdfOutline outline;
+    private int resumeCount;
+
+    ResumeBook(OutputStream outputStream, ConverterProperties converterProperties) {
+        PdfWriter writer = new PdfWriter(outputStream, new WriterProperties().setFullCompressionMode(true));
+        writer.setCloseStream(false);
+        pdfDocument = new PdfDocument(writer);
+        pdfDocument.getCatalog().setPageMode(PdfName.UseOutlines);
+        document = new Document(pdfDocument, PageSize.A4);
+        document.setMargins(PAGE_MARGIN, PAGE_MARGIN, PAGE_MARGIN, PAGE_MARGIN);
+        this.converterProperties = converterProperties;
+        outline = pdfDocument.getOutlines(false);
+    }
+
+    /**
+     * Append one resume, rendered from its HTML, under a bookmark with the given title
+     */
+    public void addResume(String title, String htmlContent) {
+        List<IElement> elements = HtmlConverter.convertToElements(htmlContent, converterProperties);
+        if (elements.isEmpty()) {
+            return;
+        }
+        if (resumeCount > 0) {
+            document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+        }
+        String destination = "resume-" + (++resumeCount);
+        elements.get(0).setProperty(Property.DESTINATION, destination);
+        for (IElement element : elements) {
+            if (element instanceof IBlockElement block) {
+                document.add(block);
+            } else if (element instanceof Image image) {
+                document.add(image);
+            } else if (element instanceof AreaBreak areaBreak) {
+                document.add(areaBreak);
+            }
+        }
+        outline.addOutline(title).addDestination(PdfDestination.makeDestination(new PdfString(destination)));
+    }
+
+    /**
+     * Number of resumes added so far
+     */
+    public int getResumeCount() {
+        return resumeCount;
+    }
+
+    @Override
+    public void close() {
+        document.close();
+    }
+}
@@ -0,0 +1,43 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.event.ResumeChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the resume caches coherent with the database.
+ * Every committed change to a resume, whichever code path made it, evicts the cached
+ * ResumeDTO (on every instance, through the two-tier cache) and the cached PDFs.
+ */
+@Component
+public class ResumeCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeCacheInvalidator.class);
+
+    static final String RESUMES_CACHE = "resumes";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PdfCacheService pdfCacheService;
+
+    @EventListener
+    public void onResumeChanged(ResumeChangedEvent event) {
+        // A freshly created resume cannot have stale entries
+        if (event.getType() == ResumeChangedEvent.Type.CREATED) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(RESUMES_CACHE);
+        if (cache != null) {
+            cache.evict(event.getResumeId());
+        }
+        pdfCacheService.evict(event.getResumeId());
+        log.debug("Invalidated caches for resume ID: {} ({})", event.getResumeId(), event.getType());
+    }
+}
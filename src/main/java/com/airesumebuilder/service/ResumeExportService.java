@@ -0,0 +1,246 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.config.PdfExportConfig;
+import com.airesumebuilder.exception.InvalidResumeDataException;
+import com.airesumebuilder.exception.PdfGenerationException;
+import com.airesumebuilder.exception.ResumeNotFoundException;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.repository.ResumeRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Service class for exporting many resume PDFs as one ZIP download or one PDF book.
+ * Renders fan out over the shared PdfRenderExecutor pool while the calling thread
+ * writes each finished PDF into the ZIP stream.
+ *
+ * Features:
+ * - Entries written in completion order, so one slow render does not hold back the rest
+ * - At most pdf.export.max-in-flight PDFs rendering or waiting to be written, keeping memory flat
+ * - Backpressure from a slow client: no new render starts until a finished one is written
+ * - Cached PDFs written without rendering, fresh renders added to the cache
+ * - Resumes that cannot be exported listed in an errors.txt entry instead of failing the download
+ * - Renderer backend chosen per template by pdf.export.engine and pdf.export.template-engines
+ * - Resume books: all resumes in one PDF with shared fonts and a bookmark per resume
+ */
+@Service
+public class ResumeExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeExportService.class);
+
+    static final String ERRORS_ENTRY = "errors.txt";
+
+    @Autowired
+    private PdfExportConfig pdfExportConfig;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private PdfService pdfService;
+
+    @Autowired
+    private PdfRendererRegistry pdfRendererRegistry;
+
+    @Autowired
+    private PdfCacheService pdfCacheService;
+
+    @Autowired
+    private PdfRenderExecutor pdfRenderExecutor;
+
+    @PostConstruct
+    void validateEngines() {
+        pdfRendererRegistry.validate(pdfExportConfig.getEngine(), pdfExportConfig.getTemplateEngines());
+    }
+
+    /**
+     * Check an export request before any output is sent, dropping duplicate IDs
+     */
+    public List<Long> validateExport(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidResumeDataException("At least one resume ID is required");
+        }
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.remove(null);
+        if (distinct.size() > pdfExportConfig.getMaxResumes()) {
+            throw new InvalidResumeDataException(
+                    "At most " + pdfExportConfig.getMaxResumes() + " resumes can be exported at once");
+        }
+        return distinct;
+    }
+
+    /**
+     * Write the PDFs of the given resumes into a ZIP stream as they finish rendering.
+     * Loading and HTML building happen on the calling thread, rendering on the render pool.
+     */
+    public void writeZip(List<Long> ids, OutputStream outputStream) throws IOException {
+        long started = System.currentTimeMillis();
+        int window = Math.max(1, pdfExportConfig.getMaxInFlight());
+        BlockingQueue<ExportedPdf> finished = new LinkedBlockingQueue<>();
+        List<String> failures = new ArrayList<>();
+        int inFlight = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        // PDF content streams are already compressed
+        zip.setLevel(Deflater.BEST_SPEED);
+
+        for (Long id : ids) {
+            // Backpressure: start the next render only once a slot in the window is written out
+            while (inFlight >= window) {
+                writeEntry(zip, take(finished), failures);
+                inFlight--;
+            }
+            try {
+                ResumeData resume = resumeRepository.findByIdWithDetails(id)
+                        .orElseThrow(() -> new ResumeNotFoundException(id));
+                String htmlContent = pdfService.buildResumeHtml(resume);
+                ResumeTemplate template = ResumeTemplate.fromName(resume.getTemplate());
+                PdfRenderer renderer = pdfRendererRegistry.forTemplate(
+                        template, pdfExportConfig.getEngine(), pdfExportConfig.getTemplateEngines());
+                String cacheKey = pdfCacheService.cacheKey(id, template, renderer.getName(), htmlContent);
+                String entryName = entryName(resume);
+
+                Optional<byte[]> cachedPdf = pdfCacheService.get(cacheKey);
+                if (cachedPdf.isPresent()) {
+                    writeEntry(zip, new ExportedPdf(id, entryName, cachedPdf.get(), false, null), failures);
+                    continue;
+                }
+
+                // Waits for capacity instead of failing; the slot is released by the worker, never held here
+                PdfRenderExecutor.RenderSlot slot =
+                        pdfRenderExecutor.reserve(pdfExportConfig.getSlotWaitSeconds(), TimeUnit.SECONDS);
+                slot.submit(() -> renderer.renderPdf(resume, htmlContent))
+                        .whenComplete((pdfBytes, error) -> {
+                            if (pdfBytes != null) {
+                                pdfCacheService.put(cacheKey, pdfBytes);
+                            }
+                            finished.add(new ExportedPdf(id, entryName, pdfBytes, true, error));
+                        });
+                inFlight++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PdfGenerationException("interrupted while waiting for render capacity", e);
+            } catch (RuntimeException e) {
+                log.warn("Skipping resume ID {} in export: {}", id, e.getMessage());
+                failures.add("Resume " + id + ": " + e.getMessage());
+            }
+        }
+        while (inFlight > 0) {
+            writeEntry(zip, take(finished), failures);
+            inFlight--;
+        }
+
+        if (!failures.isEmpty()) {
+            zip.putNextEntry(new ZipEntry(ERRORS_ENTRY));
+            zip.write(String.join("\n", failures).concat("\n").getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        zip.finish();
+        zip.flush();
+        log.info("Exported {} of {} resumes as ZIP in {} ms",
+                ids.size() - failures.size(), ids.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Write the given resumes into one PDF book, in request order.
+     * Resumes are loaded and their HTML built on the calling thread; only the conversion runs
+     * on the pool, holding one render slot, and writes into a buffer that the calling thread
+     * then copies to the client. Resumes that no longer exist are skipped.
+     */
+    public void writeBook(List<Long> ids, OutputStream outputStream) throws IOException {
+        long started = System.currentTimeMillis();
+        List<BookChapter> chapters = new ArrayList<>();
+        for (Long id : ids) {
+            Optional<ResumeData> resume = resumeRepository.findByIdWithDetails(id);
+            if (resume.isEmpty()) {
+                log.warn("Skipping missing resume ID {} in resume book", id);
+                continue;
+            }
+            chapters.add(new BookChapter(resume.get().getFullName(), pdfService.buildResumeHtml(resume.get())));
+        }
+
+        PdfRenderExecutor.RenderSlot slot;
+        try {
+            slot = pdfRenderExecutor.reserve(pdfExportConfig.getSlotWaitSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PdfGenerationException("interrupted while waiting for render capacity", e);
+        }
+
+        PdfBuffer pdfBuffer = new PdfBuffer(pdfCacheService.getMaxEntryBytes());
+        try {
+            int added = slot.run(() -> {
+                try (ResumeBook book = pdfService.openResumeBook(pdfBuffer)) {
+                    for (BookChapter chapter : chapters) {
+                        book.addResume(chapter.title(), chapter.htmlContent());
+                    }
+                    return book.getResumeCount();
+                }
+            });
+            pdfBuffer.writeTo(outputStream);
+            outputStream.flush();
+            log.info("Resume book with {} of {} resumes written in {} ms",
+                    added, ids.size(), System.currentTimeMillis() - started);
+        } finally {
+            pdfBuffer.discard();
+        }
+    }
+
+    private void writeEntry(ZipOutputStream zip, ExportedPdf pdf, List<String> failures) throws IOException {
+        if (pdf.error() != null) {
+            log.warn("Could not render resume ID {} for export: {}", pdf.resumeId(), pdf.error().getMessage());
+            failures.add("Resume " + pdf.resumeId() + ": " + pdf.error().getMessage());
+            return;
+        }
+        zip.putNextEntry(new ZipEntry(pdf.entryName()));
+        zip.write(pdf.bytes());
+        zip.closeEntry();
+        // Hand the finished entry to the client right away
+        zip.flush();
+
+        if (pdf.rendered()) {
+            resumeRepository.updateGeneratedAt(pdf.resumeId(), LocalDateTime.now());
+        }
+    }
+
+    private ExportedPdf take(BlockingQueue<ExportedPdf> finished) {
+        try {
+            return finished.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PdfGenerationException("interrupted while waiting for a render", e);
+        }
+    }
+
+    /**
+     * Entry name such as resume_42_Jane_Doe.pdf; the ID keeps names unique
+     */
+    private String entryName(ResumeData resume) {
+        String name = (resume.getFirstName() + "_" + resume.getLastName()).replaceAll("[^A-Za-z0-9]+", "_");
+        return "resume_" + resume.getId() + "_" + name + ".pdf";
+    }
+
+    private record BookChapter(String title, String htmlContent) {
+    }
+
+    private record ExportedPdf(Long resumeId, String entryName, byte[] bytes, boolean rendered, Throwable error) {
+    }
+}
@@ -0,0 +1,391 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.config.ResumeImportConfig;
+import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.dto.ResumeImportErrorDTO;
+import com.airesumebuilder.dto.ResumeImportResultDTO;
+import com.airesumebuilder.exception.InvalidResumeDataException;
+import com.airesumebuilder.model.Education;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.ResumeSection;
+import com.airesumebuilder.model.Skill;
+import com.airesumebuilder.repository.ResumeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Service class for bulk resume import.
+ * Streams a JSON-lines or CSV upload record by record, so memory use depends on the
+ * batch size rather than on the size of the upload.
+ *
+ * Features:
+ * - Record-by-record parsing of JSON lines (one ResumeDTO per line) and CSV with a header row
+ * - Validation against the same constraints as POST /api/resume/submit
+ * - Persistence in batched transactions of configurable size
+ * - A failing batch is retried record by record so one bad row does not sink its neighbours
+ * - Per-record error report, capped to keep the response bounded
+ * - Micrometer metrics for imported and failed records and batch time
+ */
+@Service
+public class ResumeImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeImportService.class);
+
+    /**
+     * Upload formats accepted by the import
+     */
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format fromContentType(String contentType) {
+            String type = contentType != null ? contentType.toLowerCase() : "";
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                return NDJSON;
+            }
+            throw new InvalidResumeDataException(
+                    "Unsupported import content type: " + contentType + " (use application/x-ndjson or text/csv)");
+        }
+    }
+
+    // CSV columns copied onto the scalar fields of ResumeDTO
+    private static final Map<String, BiConsumer<ResumeDTO, String>> CSV_FIELDS = Map.of(
+            "firstName", ResumeDTO::setFirstName,
+            "lastName", ResumeDTO::setLastName,
+            "email", ResumeDTO::setEmail,
+            "phone", ResumeDTO::setPhone,
+            "location", ResumeDTO::setLocation,
+            "careerObjective", ResumeDTO::setCareerObjective,
+            "professionalSummary", ResumeDTO::setProfessionalSummary,
+            "template", ResumeDTO::setTemplate);
+
+    // CSV columns describing one education entry
+    private static final Set<String> CSV_EDUCATION_FIELDS =
+            Set.of("degree", "university", "fieldOfStudy", "graduationYear", "cgpa");
+
+    // Semicolon-separated skill names
+    private static final String CSV_SKILLS = "skills";
+
+    @Autowired
+    private ResumeImportConfig resumeImportConfig;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final CsvMapper csvMapper = new CsvMapper();
+    private ObjectReader resumeReader;
+    private Counter importedCounter;
+    private Counter failedCounter;
+    private Timer batchTimer;
+
+    @PostConstruct
+    public void init() {
+        resumeReader = objectMapper.readerFor(ResumeDTO.class);
+        importedCounter = Counter.builder("resume.import.records")
+                .tag("outcome", "imported")
+                .description("Resumes persisted by bulk import")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("resume.import.records")
+                .tag("outcome", "failed")
+                .description("Bulk import records rejected by parsing, validation or the database")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("resume.import.batch")
+                .description("Time spent persisting one bulk import batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Import every record of the upload.
+     * Records that fail are reported and skipped; all other records are persisted.
+     */
+    public ResumeImportResultDTO importResumes(InputStream input, Format format) throws IOException {
+        long started = System.nanoTime();
+        ImportRun run = new ImportRun();
+        try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            if (format == Format.CSV) {
+                readCsv(reader, run);
+            } else {
+                readJsonLines(new BufferedReader(reader), run);
+            }
+        }
+        run.flush();
+
+        ResumeImportResultDTO result = run.result;
+        long elapsedNanos = System.nanoTime() - started;
+        result.setDurationMs(elapsedNanos / 1_000_000);
+        result.setRecordsPerSecond(elapsedNanos > 0 ? result.getImported() * 1e9 / elapsedNanos : 0);
+        result.setErrorsTruncated(result.getFailed() > result.getErrors().size());
+        log.info("Imported {} of {} resumes in {} ms ({} failed)",
+                result.getImported(), result.getReceived(), result.getDurationMs(), result.getFailed());
+        return result;
+    }
+
+    private void readJsonLines(BufferedReader reader, ImportRun run) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (!run.hasCapacity()) {
+                run.stopAtLimit();
+                return;
+            }
+            long record = run.nextRecord();
+            try {
+                run.accept(record, resumeReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                run.reject(record, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readCsv(Reader reader, ImportRun run) throws IOException {
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        try (MappingIterator<Map<String, String>> rows =
+                     csvMapper.readerForMapOf(String.class).with(schema).readValues(reader)) {
+            boolean headerChecked = false;
+            while (rows.hasNextValue()) {
+                if (!run.hasCapacity()) {
+                    run.stopAtLimit();
+                    return;
+                }
+                long record = run.nextRecord();
+                Map<String, String> row;
+                try {
+                    row = rows.nextValue();
+                } catch (IOException | RuntimeException e) {
+                    // The parser cannot resynchronise after broken quoting, so the rest of the upload is lost
+                    run.reject(record, null, "Malformed CSV, import stopped: " + rootMessage(e));
+                    return;
+                }
+                if (!headerChecked) {
+                    checkCsvHeader(row.keySet());
+                    headerChecked = true;
+                }
+                try {
+                    run.accept(record, fromCsvRow(row));
+                } catch (IllegalArgumentException e) {
+                    run.reject(record, row.get("email"), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void checkCsvHeader(Set<String> columns) {
+        List<String> unknown = new ArrayList<>();
+        for (String column : columns) {
+            if (!CSV_FIELDS.containsKey(column) && !CSV_EDUCATION_FIELDS.contains(column) && !CSV_SKILLS.equals(column)) {
+                unknown.add(column);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new InvalidResumeDataException("Unknown CSV columns: " + String.join(", ", unknown));
+        }
+    }
+
+    /**
+     * Map one CSV row onto a resume: scalar columns by name, one optional education entry
+     * and a semicolon-separated skills column
+     */
+    ResumeDTO fromCsvRow(Map<String, String> row) {
+        ResumeDTO dto = new ResumeDTO();
+        CSV_FIELDS.forEach((column, setter) -> setter.accept(dto, blankToNull(row.get(column))));
+
+        String degree = blankToNull(row.get("degree"));
+        String university = blankToNull(row.get("university"));
+        if (degree != null || university != null) {
+            Education education = new Education();
+            education.setDegree(degree);
+            education.setUniversity(university);
+            education.setFieldOfStudy(blankToNull(row.get("fieldOfStudy")));
+            String graduationYear = blankToNull(row.get("graduationYear"));
+            String cgpa = blankToNull(row.get("cgpa"));
+            try {
+                education.setGraduationYear(graduationYear != null ? Integer.valueOf(graduationYear) : null);
+                education.setCgpa(cgpa != null ? Double.valueOf(cgpa) : null);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("graduationYear and cgpa must be numbers");
+            }
+            dto.setEducations(new ArrayList<>(List.of(education)));
+        }
+
+        String skills = blankToNull(row.get(CSV_SKILLS));
+        if (skills != null) {
+            List<Skill> parsed = new ArrayList<>();
+            for (String name : skills.split(";")) {
+                if (!name.isBlank()) {
+                    parsed.add(new Skill(null, name.trim(), null, null, null));
+                }
+            }
+            dto.setSkills(parsed);
+        }
+        return dto;
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * State of one import: the pending batch and the running result
+     */
+    private class ImportRun {
+
+        private final ResumeImportResultDTO result = new ResumeImportResultDTO();
+        private final List<PendingRecord> batch = new ArrayList<>();
+
+        boolean hasCapacity() {
+            return result.getReceived() < resumeImportConfig.getMaxRecords();
+        }
+
+        long nextRecord() {
+            result.setReceived(result.getReceived() + 1);
+            return result.getReceived();
+        }
+
+        void stopAtLimit() {
+            reject(result.getReceived() + 1, null,
+                    "Import stopped after " + resumeImportConfig.getMaxRecords() + " records; split the upload");
+        }
+
+        void accept(long record, ResumeDTO dto) {
+            if (dto == null) {
+                reject(record, null, "Empty record");
+                return;
+            }
+            List<String> violations = new ArrayList<>();
+            for (ConstraintViolation<ResumeDTO> violation : validator.validate(dto)) {
+                violations.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+            if (!violations.isEmpty()) {
+                reject(record, dto.getEmail(), String.join("; ", violations));
+                return;
+            }
+            batch.add(new PendingRecord(record, dto.getEmail(), toNewEntity(dto)));
+            if (batch.size() >= resumeImportConfig.getBatchSize()) {
+                flush();
+            }
+        }
+
+        void reject(long record, String email, String message) {
+            result.setFailed(result.getFailed() + 1);
+            failedCounter.increment();
+            if (result.getErrors().size() < resumeImportConfig.getMaxReportedErrors()) {
+                result.getErrors().add(new ResumeImportErrorDTO(record, email, message));
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<PendingRecord> pending = new ArrayList<>(batch);
+            batch.clear();
+            try {
+                batchTimer.record(() -> transactionTemplate.executeWithoutResult(status ->
+                        resumeRepository.saveAll(pending.stream().map(PendingRecord::resume).toList())));
+                imported(pending.size());
+            } catch (RuntimeException batchFailure) {
+                // Find the offending rows: retry each record on its own
+                log.warn("Import batch of {} failed ({}), retrying record by record",
+                        pending.size(), batchFailure.getMessage());
+                for (PendingRecord record : pending) {
+                    ResumeData retry = record.resume();
+                    clearIds(retry);
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> resumeRepository.save(retry));
+                        imported(1);
+                    } catch (RuntimeException e) {
+                        reject(record.number(), record.email(), "Could not save resume: " + rootMessage(e));
+                    }
+                }
+            }
+        }
+
+        private void imported(int count) {
+            result.setImported(result.getImported() + count);
+            importedCounter.increment(count);
+        }
+    }
+
+    private record PendingRecord(long number, String email, ResumeData resume) {
+    }
+
+    /**
+     * Build a new entity from an imported record; IDs in the upload never address existing rows
+     */
+    private ResumeData toNewEntity(ResumeDTO dto) {
+        ResumeData resume = dto.toEntity();
+        clearIds(resume);
+        return resume;
+    }
+
+    /**
+     * Reset generated IDs, also those assigned by a rolled-back batch
+     */
+    private void clearIds(ResumeData resume) {
+        resume.setId(null);
+        resume.setVersion(null);
+        clearIds(resume.getEducations());
+        clearIds(resume.getProjects());
+        clearIds(resume.getSkills());
+        clearIds(resume.getCertifications());
+        clearIds(resume.getLanguages());
+        clearIds(resume.getAchievements());
+    }
+
+    private void clearIds(List<? extends ResumeSection> section) {
+        if (section != null) {
+            section.forEach(child -> child.setId(null));
+        }
+    }
+
+    private String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
@@ -0,0 +1,185 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.exception.InvalidResumeDataException;
+import com.airesumebuilder.model.Achievement;
+import com.airesumebuilder.model.Certification;
+import com.airesumebuilder.model.Education;
+import com.airesumebuilder.model.Language;
+import com.airesumebuilder.model.Project;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.ResumeSection;
+import com.airesumebuilder.model.Skill;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Applies a JSON Merge Patch (RFC 7386) to a managed resume.
+ * Only the members present in the patch are validated and written.
+ *
+ * Patch rules:
+ * - A scalar member replaces the field, null clears it
+ * - A section array replaces the section; elements are matched by ID
+ * - An element with a known ID is itself a merge patch of that element, so
+ *   {"id": 7} keeps the element unchanged and only changed fields need to be sent
+ * - An element without a known ID is added, elements not listed are removed
+ * - A null section removes all of its elements
+ */
+@Component
+public class ResumeMergePatcher {
+
+    private static final Map<String, BiConsumer<ResumeData, String>> SCALAR_FIELDS = new LinkedHashMap<>();
+    private static final Map<String, Section<?>> SECTIONS = new LinkedHashMap<>();
+
+    static {
+        SCALAR_FIELDS.put("firstName", ResumeData::setFirstName);
+        SCALAR_FIELDS.put("lastName", ResumeData::setLastName);
+        SCALAR_FIELDS.put("email", ResumeData::setEmail);
+        SCALAR_FIELDS.put("phone", ResumeData::setPhone);
+        SCALAR_FIELDS.put("location", ResumeData::setLocation);
+        SCALAR_FIELDS.put("careerObjective", ResumeData::setCareerObjective);
+        SCALAR_FIELDS.put("professionalSummary", ResumeData::setProfessionalSummary);
+        SCALAR_FIELDS.put("template", ResumeData::setTemplate);
+
+        SECTIONS.put("educations", new Section<>(Education.class, ResumeData::getEducations, ResumeDTO::setEducations));
+        SECTIONS.put("projects", new Section<>(Project.class, ResumeData::getProjects, ResumeDTO::setProjects));
+        SECTIONS.put("skills", new Section<>(Skill.class, ResumeData::getSkills, ResumeDTO::setSkills));
+        SECTIONS.put("certifications", new Section<>(Certification.class, ResumeData::getCertifications,
+                ResumeDTO::setCertifications));
+        SECTIONS.put("languages", new Section<>(Language.class, ResumeData::getLanguages, ResumeDTO::setLanguages));
+        SECTIONS.put("achievements", new Section<>(Achievement.class, ResumeData::getAchievements,
+                ResumeDTO::setAchievements));
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ResumeSectionMerger resumeSectionMerger;
+
+    /**
+     * Validate the patch and apply it to the resume.
+     * Nothing is changed when any patched member is invalid.
+     */
+    public void apply(ResumeData resume, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidResumeDataException("Merge patch must be a JSON object");
+        }
+
+        Set<String> errors = new TreeSet<>();
+        Map<String, String> scalars = new LinkedHashMap<>();
+        ResumeDTO sections = new ResumeDTO();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            JsonNode value = field.getValue();
+            if (SCALAR_FIELDS.containsKey(name)) {
+                readScalar(name, value, scalars, errors);
+            } else if (SECTIONS.containsKey(name)) {
+                readSection(resume, SECTIONS.get(name), name, value, sections, errors);
+            } else {
+                errors.add(name + ": field cannot be patched");
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new InvalidResumeDataException("Invalid patch: " + String.join("; ", errors));
+        }
+
+        scalars.forEach((name, value) -> SCALAR_FIELDS.get(name).accept(resume, value));
+        resumeSectionMerger.mergeSections(resume, sections);
+    }
+
+    private void readScalar(String name, JsonNode value, Map<String, String> scalars, Set<String> errors) {
+        if (!value.isNull() && !value.isTextual()) {
+            errors.add(name + ": must be a string or null");
+            return;
+        }
+        String text = value.isNull() ? null : value.textValue();
+        for (ConstraintViolation<ResumeDTO> violation : validator.validateValue(ResumeDTO.class, name, text)) {
+            errors.add(name + ": " + violation.getMessage());
+        }
+        scalars.put(name, text);
+    }
+
+    private <T extends ResumeSection> void readSection(ResumeData resume, Section<T> section, String name,
+                                                       JsonNode value, ResumeDTO target, Set<String> errors) {
+        if (value.isNull()) {
+            section.setter().accept(target, new ArrayList<>());
+            return;
+        }
+        if (!value.isArray()) {
+            errors.add(name + ": must be an array or null");
+            return;
+        }
+
+        Map<Long, T> existingById = new LinkedHashMap<>();
+        List<T> current = section.getter().apply(resume);
+        if (current != null) {
+            for (T child : current) {
+                existingById.put(child.getId(), child);
+            }
+        }
+
+        List<T> incoming = new ArrayList<>(value.size());
+        for (int i = 0; i < value.size(); i++) {
+            JsonNode elementPatch = value.get(i);
+            String path = name + "[" + i + "]";
+            if (!elementPatch.isObject()) {
+                errors.add(path + ": must be an object");
+                continue;
+            }
+            try {
+                T element = patchElement(section.type(), existingById.get(idOf(elementPatch)), elementPatch);
+                for (ConstraintViolation<T> violation : validator.validate(element)) {
+                    errors.add(path + "." + violation.getPropertyPath() + ": " + violation.getMessage());
+                }
+                incoming.add(element);
+            } catch (IOException | IllegalArgumentException e) {
+                errors.add(path + ": " + e.getMessage());
+            }
+        }
+        section.setter().accept(target, incoming);
+    }
+
+    /**
+     * Apply an element patch to a detached copy of the existing element, or build a new element
+     */
+    private <T> T patchElement(Class<T> type, T existing, JsonNode elementPatch) throws IOException {
+        if (existing == null) {
+            return objectMapper.treeToValue(elementPatch, type);
+        }
+        T copy = objectMapper.convertValue(existing, type);
+        return objectMapper.readerForUpdating(copy).readValue(elementPatch);
+    }
+
+    private Long idOf(JsonNode elementPatch) {
+        JsonNode id = elementPatch.get("id");
+        return id != null && id.canConvertToLong() ? id.longValue() : null;
+    }
+
+    private record Section<T extends ResumeSection>(Class<T> type,
+                                                    Function<ResumeData, List<T>> getter,
+                                                    BiConsumer<ResumeDTO, List<T>> setter) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.model.Achievement;
+import com.airesumebuilder.model.Certification;
+import com.airesumebuilder.model.Education;
+import com.airesumebuilder.model.Language;
+import com.airesumebuilder.model.Project;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.ResumeSection;
+import com.airesumebuilder.model.Skill;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * Merges incoming resume sections into the managed collections of a resume.
+ * Children are matched by ID and updated in place, so an update only writes the rows
+ * that actually changed instead of deleting and re-inserting every section.
+ *
+ * Features:
+ * - In-place update of existing children, leaving unchanged rows clean
+ * - Insert of children without a known ID
+ * - Delete of children missing from the request through orphan removal
+ * - IDs belonging to other resumes are treated as new children
+ */
+@Component
+public class ResumeSectionMerger {
+
+    /**
+     * Merge every section present in the DTO into the resume.
+     * Sections that are null in the DTO are left untouched.
+     * When a section changed, updatedAt is touched so the resume version moves with it.
+     *
+     * @return whether any section changed
+     */
+    public boolean mergeSections(ResumeData resume, ResumeDTO source) {
+        boolean changed = false;
+        if (source.getEducations() != null) {
+            changed |= merge(resume, resume.getEducations(), source.getEducations(),
+                    resume::setEducations, this::copyEducation);
+        }
+        if (source.getProjects() != null) {
+            changed |= merge(resume, resume.getProjects(), source.getProjects(),
+                    resume::setProjects, this::copyProject);
+        }
+        if (source.getSkills() != null) {
+            changed |= merge(resume, resume.getSkills(), source.getSkills(),
+                    resume::setSkills, this::copySkill);
+        }
+        if (source.getCertifications() != null) {
+            changed |= merge(resume, resume.getCertifications(), source.getCertifications(),
+                    resume::setCertifications, this::copyCertification);
+        }
+        if (source.getLanguages() != null) {
+            changed |= merge(resume, resume.getLanguages(), source.getLanguages(),
+                    resume::setLanguages, this::copyLanguage);
+        }
+        if (source.getAchievements() != null) {
+            changed |= merge(resume, resume.getAchievements(), source.getAchievements(),
+                    resume::setAchievements, this::copyAchievement);
+        }
+        if (changed) {
+            resume.setUpdatedAt(LocalDateTime.now());
+        }
+        return changed;
+    }
+
+    /**
+     * Merge one section in place.
+     * Sections are read back ordered by ID, so the order of the request is not stored and a
+     * request that only reorders unchanged children is not a change. Matched children keep
+     * their place, new ones are appended, and the managed list instance is kept so Hibernate
+     * sees element changes rather than a replaced collection.
+     *
+     * @return whether the section changed
+     */
+    <T extends ResumeSection> boolean merge(ResumeData resume, List<T> current, List<T> incoming,
+                                            Consumer<List<T>> setter, BiPredicate<T, T> copier) {
+        List<T> managed = current != null ? current : new ArrayList<>();
+        Map<Long, T> existingById = new HashMap<>();
+        for (T child : managed) {
+            if (child.getId() != null) {
+                existingById.put(child.getId(), child);
+            }
+        }
+
+        boolean changed = false;
+        List<T> added = new ArrayList<>();
+        Set<Long> matched = new HashSet<>();
+        for (T candidate : incoming) {
+            if (candidate == null) {
+                continue;
+            }
+            T existing = candidate.getId() != null ? existingById.get(candidate.getId()) : null;
+            if (existing != null && matched.add(existing.getId())) {
+                changed |= copier.test(candidate, existing);
+            } else {
+                // Unknown or repeated IDs must not point at rows owned by another resume
+                candidate.setId(null);
+                candidate.setResume(resume);
+                added.add(candidate);
+            }
+        }
+
+        changed |= managed.removeIf(child -> child.getId() == null || !matched.contains(child.getId()));
+        changed |= managed.addAll(added);
+        setter.accept(managed);
+        return changed;
+    }
+
+    private boolean copyEducation(Education source, Education target) {
+        boolean changed = set(target.getDegree(), source.getDegree(), target::setDegree);
+        changed |= set(target.getUniversity(), source.getUniversity(), target::setUniversity);
+        changed |= set(target.getFieldOfStudy(), source.getFieldOfStudy(), target::setFieldOfStudy);
+        changed |= set(target.getGraduationYear(), source.getGraduationYear(), target::setGraduationYear);
+        changed |= set(target.getCgpa(), source.getCgpa(), target::setCgpa);
+        changed |= set(target.getAchievements(), source.getAchievements(), target::setAchievements);
+        return changed;
+    }
+
+    private boolean copyProject(Project source, Project target) {
+        boolean changed = set(target.getProjectName(), source.getProjectName(), target::setProjectName);
+        changed |= set(target.getDescription(), source.getDescription(), target::setDescription);
+        changed |= set(target.getTechnologies(), source.getTechnologies(), target::setTechnologies);
+        changed |= set(target.getProjectLink(), source.getProjectLink(), target::setProjectLink);
+        changed |= set(target.getAchievements(), source.getAchievements(), target::setAchievements);
+        changed |= set(target.getStartDate(), source.getStartDate(), target::setStartDate);
+        changed |= set(target.getEndDate(), source.getEndDate(), target::setEndDate);
+        return changed;
+    }
+
+    private boolean copySkill(Skill source, Skill target) {
+        boolean changed = set(target.getSkillName(), source.getSkillName(), target::setSkillName);
+        changed |= set(target.getProficiency(), source.getProficiency(), target::setProficiency);
+        changed |= set(target.getDescription(), source.getDescription(), target::setDescription);
+        return changed;
+    }
+
+    private boolean copyCertification(Certification source, Certification target) {
+        boolean changed = set(target.getCertificationName(), source.getCertificationName(), target::setCertificationName);
+        changed |= set(target.getIssuer(), source.getIssuer(), target::setIssuer);
+        changed |= set(target.getIssueDate(), source.getIssueDate(), target::setIssueDate);
+        changed |= set(target.getExpiryDate(), source.getExpiryDate(), target::setExpiryDate);
+        changed |= set(target.getDescription(), source.getDescription(), target::setDescription);
+        changed |= set(target.getCertificateLink(), source.getCertificateLink(), target::setCertificateLink);
+        return changed;
+    }
+
+    private boolean copyLanguage(Language source, Language target) {
+        boolean changed = set(target.getLanguageName(), source.getLanguageName(), target::setLanguageName);
+        changed |= set(target.getProficiency(), source.getProficiency(), target::setProficiency);
+        return changed;
+    }
+
+    private boolean copyAchievement(Achievement source, Achievement target) {
+        boolean changed = set(target.getAchievementTitle(), source.getAchievementTitle(), target::setAchievementTitle);
+        changed |= set(target.getDescription(), source.getDescription(), target::setDescription);
+        changed |= set(target.getDate(), source.getDate(), target::setDate);
+        changed |= set(target.getCategory(), source.getCategory(), target::setCategory);
+        return changed;
+    }
+
+    /**
+     * Set a field only when its value differs, reporting whether it did
+     */
+    private static <V> boolean set(V current, V value, Consumer<V> setter) {
+        if (Objects.equals(current, value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+}
@@ -1,23 +1,47 @@
 package com.airesumebuilder.service;
 
+import com.airesumebuilder.config.PdfRenderConfig;
 import com.airesumebuilder.dto.EnhancementRequestDTO;
 import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.dto.ResumePageDTO;
+import com.airesumebuilder.dto.ResumeSearchHitDTO;
+import com.airesumebuilder.dto.ResumeSummaryDTO;
 import com.airesumebuilder.exception.InvalidResumeDataException;
+import com.airesumebuilder.exception.PdfRenderCapacityExceededException;
 import com.airesumebuilder.exception.ResumeNotFoundException;
+import com.airesumebuilder.exception.ResumeVersionMismatchException;
 import com.airesumebuilder.model.ResumeData;
 import com.airesumebuilder.repository.ResumeRepository;
+import com.airesumebuilder.search.ResumeSearchIndex;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Service class for resume management.
@@ -25,14 +49,21 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * Features:
  * - CRUD operations for resume data
- * - Integration with GeminiService for AI enhancement
+ * - Keyset-paginated resume listing with summary projections
+ * - Ranked full-text search over skills and projects through ResumeSearchIndex
+ * - Integration with GeminiService for AI enhancement, blocking or asynchronous
  * - Integration with PdfService for PDF generation
+ * - Reuse of previously generated PDFs through PdfCacheService
+ * - Renderer backend chosen per template by pdf.render.engine and pdf.render.template-engines
+ * - PDF rendering on the bounded PdfRenderExecutor pool
  * - Resume enhancement and scoring
+ * - Conditional updates against the resume version (optimistic locking)
  */
 @Service
 public class ResumeService {
 
     private static final Logger log = LoggerFactory.getLogger(ResumeService.class);
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Autowired
     private ResumeRepository resumeRepository;
@@ -43,8 +74,41 @@ public class ResumeService {
     @Autowired
     private PdfService pdfService;
 
+    @Autowired
+    private PdfCacheService pdfCacheService;
+
+    @Autowired
+    private PdfRenderExecutor pdfRenderExecutor;
+
+    @Autowired
+    private PdfRendererRegistry pdfRendererRegistry;
+
+    @Autowired
+    private PdfRenderConfig pdfRenderConfig;
+
+    @Autowired
+    private ResumeSectionMerger resumeSectionMerger;
+
+    @Autowired
+    private ResumeMergePatcher resumeMergePatcher;
+
+    @Autowired
+    private ResumeSearchIndex resumeSearchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
     private final Gson gson = new Gson();
 
+    @PostConstruct
+    void validateEngines() {
+        pdfRendererRegistry.validate(pdfRenderConfig.getEngine(), pdfRenderConfig.getTemplateEngines());
+    }
+
     /**
      * Create a new resume
      */
@@ -72,21 +136,85 @@ public class ResumeService {
     /**
      * Get resume by ID
      */
-    @Cacheable(value = "resumes", key = "#id")
+    @Cacheable(value = "resumes", key = "#id", sync = true)
     public ResumeDTO getResumeById(Long id) {
         return resumeRepository.findByIdWithDetails(id)
                 .map(ResumeDTO::fromEntity)
                 .orElseThrow(() -> new ResumeNotFoundException(id));
     }
 
+    /**
+     * List resume summaries newest first, one keyset page at a time.
+     * The page size is capped at MAX_PAGE_SIZE.
+     */
+    public ResumePageDTO listResumes(String query, String template, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LocalDateTime createdAt = null;
+        Long lastId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            createdAt = LocalDateTime.parse(position[0]);
+            lastId = Long.valueOf(position[1]);
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        List<ResumeSummaryDTO> summaries = resumeRepository.findSummaries(query, template, createdAt, lastId, limit + 1);
+        if (summaries.size() <= limit) {
+            return new ResumePageDTO(summaries, null);
+        }
+        List<ResumeSummaryDTO> page = new ArrayList<>(summaries.subList(0, limit));
+        ResumeSummaryDTO last = page.get(limit - 1);
+        return new ResumePageDTO(page, encodeCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    /**
+     * Search resumes by skills, project technologies, names and free text, best match first.
+     * The index is updated shortly after each commit, so a just-saved change may not be visible yet.
+     */
+    public List<ResumeSearchHitDTO> searchResumes(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidResumeDataException("Search query is required");
+        }
+        return resumeSearchIndex.search(query, limit);
+    }
+
+    private String encodeCursor(LocalDateTime createdAt, Long id) {
+        String position = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("malformed position");
+            }
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidResumeDataException("Invalid cursor: " + cursor, e);
+        }
+    }
+
     /**
      * Update resume
      */
     @Transactional
-    @CacheEvict(value = "resumes", key = "#id")
     public ResumeDTO updateResume(Long id, ResumeDTO resumeDTO) {
+        return updateResume(id, resumeDTO, null);
+    }
+
+    /**
+     * Update resume if it is still at the expected version.
+     * A null expected version updates unconditionally.
+     */
+    @Transactional
+    public ResumeDTO updateResume(Long id, ResumeDTO resumeDTO, Long expectedVersion) {
         ResumeData resume = resumeRepository.findById(id)
                 .orElseThrow(() -> new ResumeNotFoundException(id));
+        checkVersion(resume, expectedVersion);
 
         // Update basic fields
         if (resumeDTO.getFirstName() != null) resume.setFirstName(resumeDTO.getFirstName());
@@ -98,17 +226,48 @@ public class ResumeService {
         if (resumeDTO.getProfessionalSummary() != null) resume.setProfessionalSummary(resumeDTO.getProfessionalSummary());
         if (resumeDTO.getTemplate() != null) resume.setTemplate(resumeDTO.getTemplate());
 
-        // Update relationships
-        if (resumeDTO.getEducations() != null) resume.setEducations(resumeDTO.getEducations());
-        if (resumeDTO.getProjects() != null) resume.setProjects(resumeDTO.getProjects());
-        if (resumeDTO.getSkills() != null) resume.setSkills(resumeDTO.getSkills());
-        if (resumeDTO.getCertifications() != null) resume.setCertifications(resumeDTO.getCertifications());
-        if (resumeDTO.getLanguages() != null) resume.setLanguages(resumeDTO.getLanguages());
-        if (resumeDTO.getAchievements() != null) resume.setAchievements(resumeDTO.getAchievements());
+        // Merge sections by ID so only changed rows are written
+        resumeSectionMerger.mergeSections(resume, resumeDTO);
 
-        ResumeData updatedResume = resumeRepository.save(resume);
+        ResumeData updatedResume = resumeRepository.saveAndFlush(resume);
         log.info("Resume updated with ID: {}", id);
-        return ResumeDTO.fromEntity(updatedResume);
+        return detachedDto(updatedResume);
+    }
+
+    /**
+     * Partially update a resume from a JSON Merge Patch.
+     * Only the patched fields are validated and written.
+     */
+    @Transactional
+    public ResumeDTO patchResume(Long id, JsonNode patch) {
+        return patchResume(id, patch, null);
+    }
+
+    /**
+     * Partially update a resume if it is still at the expected version.
+     * A null expected version updates unconditionally.
+     */
+    @Transactional
+    public ResumeDTO patchResume(Long id, JsonNode patch, Long expectedVersion) {
+        ResumeData resume = resumeRepository.findById(id)
+                .orElseThrow(() -> new ResumeNotFoundException(id));
+        checkVersion(resume, expectedVersion);
+
+        resumeMergePatcher.apply(resume, patch);
+
+        ResumeData updatedResume = resumeRepository.saveAndFlush(resume);
+        log.info("Resume patched with ID: {}", id);
+        return detachedDto(updatedResume);
+    }
+
+    /**
+     * Reject a conditional update made against an outdated version.
+     * A concurrent commit after this check still fails on the version column at flush.
+     */
+    private void checkVersion(ResumeData resume, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(resume.getVersion())) {
+            throw new ResumeVersionMismatchException(resume.getId(), expectedVersion, resume.getVersion());
+        }
     }
 
     /**
@@ -122,35 +281,37 @@ public class ResumeService {
 
             // Call Gemini API for enhancement
             String enhancedContent = geminiService.enhanceResumeContent(request);
-
-            // Parse enhanced content
-            try {
-                JsonObject enhancedJson = gson.fromJson(enhancedContent, JsonObject.class);
-                
-                if (enhancedJson.has("enhancedCareerObjective")) {
-                    resume.setEnhancedCareerObjective(
-                        enhancedJson.get("enhancedCareerObjective").getAsString()
-                    );
-                }
-                if (enhancedJson.has("enhancedProfessionalSummary")) {
-                    resume.setEnhancedProfessionalSummary(
-                        enhancedJson.get("enhancedProfessionalSummary").getAsString()
-                    );
-                }
-            } catch (Exception e) {
-                log.warn("Could not parse enhanced JSON, storing raw response");
-                resume.setEnhancedData(enhancedContent);
-            }
+            applyEnhancement(resume, enhancedContent);
 
             ResumeData updatedResume = resumeRepository.save(resume);
             log.info("Resume enhanced with ID: {}", id);
-            return ResumeDTO.fromEntity(updatedResume);
+            return detachedDto(updatedResume);
         } catch (Exception e) {
             log.error("Error enhancing resume: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to enhance resume: " + e.getMessage());
         }
     }
 
+    /**
+     * Enhance resume using Gemini API without holding a request thread during the AI call.
+     * The result is persisted in its own transaction on the application task executor.
+     */
+    public CompletableFuture<ResumeDTO> enhanceResumeAsync(Long id, EnhancementRequestDTO request) {
+        if (!resumeRepository.existsById(id)) {
+            return CompletableFuture.failedFuture(new ResumeNotFoundException(id));
+        }
+        return geminiService.enhanceResumeContentAsync(request)
+                .thenApplyAsync(enhancedContent -> transactionTemplate.execute(status -> {
+                    ResumeData resume = resumeRepository.findById(id)
+                            .orElseThrow(() -> new ResumeNotFoundException(id));
+                    applyEnhancement(resume, enhancedContent);
+
+                    ResumeData updatedResume = resumeRepository.save(resume);
+                    log.info("Resume enhanced with ID: {}", id);
+                    return detachedDto(updatedResume);
+                }), applicationTaskExecutor);
+    }
+
     /**
      * Calculate resume score using Gemini API
      */
@@ -162,25 +323,11 @@ public class ResumeService {
 
             // Call Gemini API for scoring
             String scoreResponse = geminiService.calculateResumeScore(request);
-
-            // Parse score response
-            try {
-                JsonObject scoreJson = gson.fromJson(scoreResponse, JsonObject.class);
-                
-                if (scoreJson.has("score")) {
-                    resume.setResumeScore(scoreJson.get("score").getAsDouble());
-                }
-                if (scoreJson.has("feedback")) {
-                    resume.setResumeScoreFeedback(scoreJson.get("feedback").getAsString());
-                }
-            } catch (Exception e) {
-                log.warn("Could not parse score JSON, storing raw response");
-                resume.setResumeScoreFeedback(scoreResponse);
-            }
+            applyScore(resume, scoreResponse);
 
             ResumeData updatedResume = resumeRepository.save(resume);
             log.info("Resume score calculated for ID: {}", id);
-            return ResumeDTO.fromEntity(updatedResume);
+            return detachedDto(updatedResume);
         } catch (Exception e) {
             log.error("Error calculating resume score: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to calculate resume score: " + e.getMessage());
@@ -188,32 +335,176 @@ public class ResumeService {
     }
 
     /**
-     * Generate PDF from resume data
+     * Calculate resume score using Gemini API without holding a request thread during the AI call.
+     * The result is persisted in its own transaction on the application task executor.
      */
-    @Transactional
-    public byte[] generateResumePdf(Long id) {
+    public CompletableFuture<ResumeDTO> calculateResumeScoreAsync(Long id, EnhancementRequestDTO request) {
+        if (!resumeRepository.existsById(id)) {
+            return CompletableFuture.failedFuture(new ResumeNotFoundException(id));
+        }
+        return geminiService.calculateResumeScoreAsync(request)
+                .thenApplyAsync(scoreResponse -> transactionTemplate.execute(status -> {
+                    ResumeData resume = resumeRepository.findById(id)
+                            .orElseThrow(() -> new ResumeNotFoundException(id));
+                    applyScore(resume, scoreResponse);
+
+                    ResumeData updatedResume = resumeRepository.save(resume);
+                    log.info("Resume score calculated for ID: {}", id);
+                    return detachedDto(updatedResume);
+                }), applicationTaskExecutor);
+    }
+
+    /**
+     * Copy the AI-enhanced content onto the resume, keeping the raw response if it is not valid JSON
+     */
+    private void applyEnhancement(ResumeData resume, String enhancedContent) {
         try {
-            ResumeData resume = resumeRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Resume not found with ID: " + id));
+            JsonObject enhancedJson = gson.fromJson(enhancedContent, JsonObject.class);
+            
+            if (enhancedJson.has("enhancedCareerObjective")) {
+                resume.setEnhancedCareerObjective(
+                    enhancedJson.get("enhancedCareerObjective").getAsString()
+                );
+            }
+            if (enhancedJson.has("enhancedProfessionalSummary")) {
+                resume.setEnhancedProfessionalSummary(
+                    enhancedJson.get("enhancedProfessionalSummary").getAsString()
+                );
+            }
+        } catch (Exception e) {
+            log.warn("Could not parse enhanced JSON, storing raw response");
+            resume.setEnhancedData(enhancedContent);
+        }
+    }
 
-            // Build HTML content
-            String htmlContent = pdfService.buildResumeHtml(resume);
+    /**
+     * Copy the AI score onto the resume, keeping the raw response as feedback if it is not valid JSON
+     */
+    private void applyScore(ResumeData resume, String scoreResponse) {
+        try {
+            JsonObject scoreJson = gson.fromJson(scoreResponse, JsonObject.class);
+            
+            if (scoreJson.has("score")) {
+                resume.setResumeScore(scoreJson.get("score").getAsDouble());
+            }
+            if (scoreJson.has("feedback")) {
+                resume.setResumeScoreFeedback(scoreJson.get("feedback").getAsString());
+            }
+        } catch (Exception e) {
+            log.warn("Could not parse score JSON, storing raw response");
+            resume.setResumeScoreFeedback(scoreResponse);
+        }
+    }
 
-            // Generate PDF
-            byte[] pdfBytes = pdfService.generatePdfFromHtml(htmlContent);
+    /**
+     * Convert to DTO with all sections loaded, for use outside the persistence context
+     */
+    private ResumeDTO detachedDto(ResumeData resume) {
+        Hibernate.initialize(resume.getEducations());
+        Hibernate.initialize(resume.getProjects());
+        Hibernate.initialize(resume.getSkills());
+        Hibernate.initialize(resume.getCertifications());
+        Hibernate.initialize(resume.getLanguages());
+        Hibernate.initialize(resume.getAchievements());
+        return ResumeDTO.fromEntity(resume);
+    }
 
-            // Update generation timestamp
-            resume.setGeneratedAt(java.time.LocalDateTime.now());
-            resumeRepository.save(resume);
+    /**
+     * Generate PDF from resume data.
+     * Serves a cached copy when the rendered content has not changed since the last download.
+     */
+    @Transactional
+    public byte[] generateResumePdf(Long id) {
+        try {
+            PreparedPdf preparedPdf = prepareResumePdf(id);
+            if (preparedPdf.isCached()) {
+                return preparedPdf.getCachedBytes();
+            }
 
-            log.info("PDF generated for resume ID: {}", id);
-            return pdfBytes;
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            writeResumePdf(preparedPdf, outputStream);
+            return outputStream.toByteArray();
+        } catch (PdfRenderCapacityExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error generating PDF: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to generate PDF: " + e.getMessage());
         }
     }
 
+    /**
+     * Load a resume and resolve its PDF from the cache, or pick the renderer for its template.
+     * The resume is loaded with all sections so it can be rendered after the transaction ends.
+     * A cache miss reserves a render slot up front so saturation is reported before any output is sent.
+     */
+    @Transactional(readOnly = true)
+    public PreparedPdf prepareResumePdf(Long id) {
+        ResumeData resume = resumeRepository.findByIdWithDetails(id)
+                .orElseThrow(() -> new ResumeNotFoundException(id));
+
+        // The HTML identifies the rendered content for every backend and is reused by the HTML backend
+        String htmlContent = pdfService.buildResumeHtml(resume);
+        ResumeTemplate template = ResumeTemplate.fromName(resume.getTemplate());
+        PdfRenderer renderer = pdfRendererRegistry.forTemplate(
+                template, pdfRenderConfig.getEngine(), pdfRenderConfig.getTemplateEngines());
+
+        // Serve from cache when this exact content was rendered by this backend before
+        String cacheKey = pdfCacheService.cacheKey(id, template, renderer.getName(), htmlContent);
+        Optional<byte[]> cachedPdf = pdfCacheService.get(cacheKey);
+        if (cachedPdf.isPresent()) {
+            log.info("PDF served from cache for resume ID: {}", id);
+            return new PreparedPdf(id, cacheKey, null, null, null, cachedPdf.get(), null);
+        }
+        return new PreparedPdf(id, cacheKey, resume, htmlContent, renderer, null, pdfRenderExecutor.reserve());
+    }
+
+    /**
+     * Render a prepared PDF and copy it into the given stream, caching the result when it fits
+     */
+    public void writeResumePdf(PreparedPdf preparedPdf, OutputStream outputStream) throws IOException {
+        if (preparedPdf.isCached()) {
+            outputStream.write(preparedPdf.getCachedBytes());
+            return;
+        }
+
+        PdfBuffer pdfBuffer = renderResumePdf(preparedPdf);
+        try {
+            pdfBuffer.writeTo(outputStream);
+        } finally {
+            pdfBuffer.discard();
+        }
+    }
+
+    /**
+     * Render a prepared PDF on the render pool into a buffer the caller copies out.
+     * The render slot is released before this returns, so a slow client only ever holds
+     * its own request thread. Output larger than the cache entry limit spills to disk.
+     * Only the cache takes a copy of the bytes; callers write from the buffer itself.
+     */
+    public PdfBuffer renderResumePdf(PreparedPdf preparedPdf) throws IOException {
+        PdfBuffer pdfBuffer = new PdfBuffer(pdfCacheService.getMaxEntryBytes());
+        try {
+            preparedPdf.getRenderSlot().run(() -> {
+                preparedPdf.getRenderer().writePdf(
+                        preparedPdf.getResume(), preparedPdf.getHtmlContent(), pdfBuffer);
+                return null;
+            });
+        } catch (IOException | RuntimeException e) {
+            pdfBuffer.discard();
+            throw e;
+        }
+
+        if (pdfBuffer.isInMemory()) {
+            pdfCacheService.put(preparedPdf.getCacheKey(), pdfBuffer.toByteArray());
+        }
+
+        // Update generation timestamp
+        resumeRepository.updateGeneratedAt(preparedPdf.getResumeId(), LocalDateTime.now());
+        log.info("PDF generated for resume ID: {} with the {} renderer",
+                preparedPdf.getResumeId(), preparedPdf.getRenderer().getName());
+        return pdfBuffer;
+    }
+
     /**
      * Delete resume by ID
      */
@@ -0,0 +1,31 @@
+package com.airesumebuilder.service;
+
+/**
+ * Resume templates supported by the PDF renderer.
+ * Maps the free-form template name stored on ResumeData to a fixed set of layouts.
+ */
+public enum ResumeTemplate {
+    CLASSIC,
+    MODERN,
+    CREATIVE;
+
+    /**
+     * Resolve a template by name, falling back to CLASSIC for null or unknown names
+     */
+    public static ResumeTemplate fromName(String name) {
+        if ("modern".equalsIgnoreCase(name)) {
+            return MODERN;
+        } else if ("creative".equalsIgnoreCase(name)) {
+            return CREATIVE;
+        } else {
+            return CLASSIC;
+        }
+    }
+
+    /**
+     * Lowercase name as stored on ResumeData
+     */
+    public String getName() {
+        return name().toLowerCase();
+    }
+}
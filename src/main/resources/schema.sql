@@ -21,6 +21,7 @@ CREATE TABLE IF NOT EXISTS resume_data (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     generated_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
     CONSTRAINT resume_data_email_unique UNIQUE (email)
 );
 
@@ -94,6 +95,20 @@ CREATE TABLE IF NOT EXISTS achievement (
     CONSTRAINT fk_achievement_resume FOREIGN KEY (resume_id) REFERENCES resume_data(id) ON DELETE CASCADE
 );
 
+-- Optimistic locking column for databases created before it was added
+ALTER TABLE resume_data ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Hibernate allocates ids in blocks of 50 from these sequences (pooled optimizer),
+-- so each sequence must advance by the same amount. The application applies this
+-- itself at startup (SequenceIncrementMigration) before Hibernate validates it.
+ALTER SEQUENCE resume_data_id_seq INCREMENT BY 50;
+ALTER SEQUENCE education_id_seq INCREMENT BY 50;
+ALTER SEQUENCE skill_id_seq INCREMENT BY 50;
+ALTER SEQUENCE project_id_seq INCREMENT BY 50;
+ALTER SEQUENCE certification_id_seq INCREMENT BY 50;
+ALTER SEQUENCE language_id_seq INCREMENT BY 50;
+ALTER SEQUENCE achievement_id_seq INCREMENT BY 50;
+
 -- Create indexes for better query performance
 CREATE INDEX idx_resume_email ON resume_data(email);
 CREATE INDEX idx_resume_created_at ON resume_data(created_at);
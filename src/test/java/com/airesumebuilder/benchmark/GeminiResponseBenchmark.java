@@ -0,0 +1,58 @@
+package com.airesumebuilder.benchmark;
+
+import com.airesumebuilder.service.GeminiService;
+import com.airesumebuilder.support.SyntheticResumes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for extracting the generated text from a Gemini generateContent response,
+ * the CPU work done on every AI call once the response arrives.
+ *
+ * Run with: mvn test -Pbenchmark -Djmh.args="GeminiResponseBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Benchmark)
+public class GeminiResponseBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public SyntheticResumes.Size size;
+
+    private GeminiService geminiService;
+    private MethodHandle extractText;
+    private String responseBody;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        geminiService = new GeminiService();
+        // The parser is private; resolve it once so the lookup stays out of the measurement
+        extractText = MethodHandles.privateLookupIn(GeminiService.class, MethodHandles.lookup())
+                .findVirtual(GeminiService.class, "extractTextFromGeminiResponse",
+                        MethodType.methodType(String.class, String.class));
+        responseBody = SyntheticResumes.geminiResponse(SyntheticResumes.resume(size, "classic", 42));
+    }
+
+    @Benchmark
+    public String extractTextFromGeminiResponse() throws Throwable {
+        return (String) extractText.invokeExact(geminiService, responseBody);
+    }
+}
@@ -0,0 +1,79 @@
+package com.airesumebuilder.benchmark;
+
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.service.HtmlPdfRenderer;
+import com.airesumebuilder.service.LayoutPdfRenderer;
+import com.airesumebuilder.service.PdfRenderer;
+import com.airesumebuilder.service.PdfService;
+import com.airesumebuilder.support.SyntheticResumes;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the PDF renderer backends for every template.
+ *
+ * Reports per backend and template:
+ * - latency (sample mode, with percentiles) and throughput
+ * - allocation per render, with -prof gc
+ * - output size, as the pdfBytes counter (bytes of one render)
+ *
+ * Run with: mvn test -Pbenchmark -Djmh.args="PdfRenderBenchmark -prof gc"
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Benchmark)
+public class PdfRenderBenchmark {
+
+    @Param({"html", "layout"})
+    public String engine;
+
+    @Param({"classic", "modern", "creative"})
+    public String template;
+
+    private PdfRenderer renderer;
+    private ResumeData resume;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (HtmlPdfRenderer.NAME.equals(engine)) {
+            renderer = new HtmlPdfRenderer();
+            ReflectionTestUtils.setField(renderer, "pdfService", new PdfService());
+        } else {
+            renderer = new LayoutPdfRenderer();
+        }
+        resume = SyntheticResumes.resume(SyntheticResumes.Size.MEDIUM, template, 42);
+    }
+
+    /**
+     * Output size of each render, reported next to the timings
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class OutputSize {
+        public long pdfBytes;
+    }
+
+    @Benchmark
+    public byte[] render(OutputSize outputSize) {
+        byte[] pdf = renderer.renderPdf(resume);
+        outputSize.pdfBytes = pdf.length;
+        return pdf;
+    }
+}
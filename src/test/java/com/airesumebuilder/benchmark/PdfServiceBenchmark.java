@@ -0,0 +1,60 @@
+package com.airesumebuilder.benchmark;
+
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.service.PdfService;
+import com.airesumebuilder.support.SyntheticResumes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the two stages of a resume download: building the HTML and
+ * converting it to PDF, for every template and resume size.
+ *
+ * Run with: mvn test -Pbenchmark -Djmh.args="PdfServiceBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Benchmark)
+public class PdfServiceBenchmark {
+
+    @Param({"classic", "modern", "creative"})
+    public String template;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public SyntheticResumes.Size size;
+
+    private final PdfService pdfService = new PdfService();
+    private ResumeData resume;
+    private String html;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        resume = SyntheticResumes.resume(size, template, 42);
+        html = pdfService.buildResumeHtml(resume);
+    }
+
+    @Benchmark
+    public String buildResumeHtml() {
+        return pdfService.buildResumeHtml(resume);
+    }
+
+    @Benchmark
+    public byte[] generatePdfFromHtml() {
+        return pdfService.generatePdfFromHtml(html);
+    }
+}
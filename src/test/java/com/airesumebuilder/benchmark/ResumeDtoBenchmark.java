@@ -0,0 +1,64 @@
+package com.airesumebuilder.benchmark;
+
+import com.airesumebuilder.dto.EnhancementRequestDTO;
+import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.support.SyntheticResumes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the per-request conversions around the resume API:
+ * entity to DTO and back, and the combined text sent to the AI endpoints.
+ *
+ * Run with: mvn test -Pbenchmark -Djmh.args="ResumeDtoBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Benchmark)
+public class ResumeDtoBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public SyntheticResumes.Size size;
+
+    private ResumeData resume;
+    private ResumeDTO dto;
+    private EnhancementRequestDTO enhancementRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        resume = SyntheticResumes.resume(size, "classic", 42);
+        dto = ResumeDTO.fromEntity(resume);
+        enhancementRequest = SyntheticResumes.enhancementRequest(resume);
+    }
+
+    @Benchmark
+    public ResumeDTO fromEntity() {
+        return ResumeDTO.fromEntity(resume);
+    }
+
+    @Benchmark
+    public ResumeData toEntity() {
+        return dto.toEntity();
+    }
+
+    @Benchmark
+    public String getCombinedText() {
+        return enhancementRequest.getCombinedText();
+    }
+}
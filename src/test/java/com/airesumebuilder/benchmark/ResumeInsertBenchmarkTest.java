@@ -0,0 +1,64 @@
+package com.airesumebuilder.benchmark;
+
+import com.airesumebuilder.support.JdbcRoundTripCounter;
+import com.airesumebuilder.support.SyntheticResumes;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+
+/**
+ * Round-trip benchmark for saving resumes.
+ *
+ * Persists a cohort of resumes (1 education, 5 projects, 10 skills, 5 achievements each)
+ * with pooled sequence ids, once with JDBC batching switched off for the session and once
+ * with the configured batch size. This isolates what batching saves. The unbatched run is
+ * not an IDENTITY baseline: IDENTITY costs the same one insert per row but makes no
+ * sequence calls.
+ *
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class ResumeInsertBenchmarkTest {
+
+    private static final int COHORT_SIZE = 200;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void benchmarkCohortInsert_SequenceUnbatchedVersusBatched() {
+        run("sequence, batch size 1", 1);
+        run("sequence, configured batch size", null);
+    }
+
+    private void run(String label, Integer jdbcBatchSize) {
+        String emailPrefix = jdbcBatchSize == null ? "batched" : "unbatched";
+        JdbcRoundTripCounter.reset();
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            // null keeps the hibernate.jdbc.batch_size setting
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            for (int i = 0; i < COHORT_SIZE; i++) {
+                entityManager.persist(SyntheticResumes.unsavedResume(emailPrefix + "." + i + "@example.com"));
+            }
+        });
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        System.out.printf("%-31s: %d resumes, %d insert round trips (%.1f per resume), %d sequence calls, %.0f ms%n",
+                label, COHORT_SIZE, JdbcRoundTripCounter.getInserts(),
+                JdbcRoundTripCounter.getInserts() / (double) COHORT_SIZE,
+                JdbcRoundTripCounter.getSequenceCalls(), millis);
+    }
+
+}
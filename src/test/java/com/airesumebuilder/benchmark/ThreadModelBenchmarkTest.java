@@ -0,0 +1,148 @@
+package com.airesumebuilder.benchmark;
+
+import com.airesumebuilder.support.GeminiStubServer;
+import com.airesumebuilder.support.ResumeApiLoadHarness;
+import com.airesumebuilder.support.ResumeApiLoadHarness.Endpoint;
+import com.airesumebuilder.support.ResumeApiLoadHarness.LoadResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Benchmark of the resume API on platform versus virtual request threads.
+ *
+ * Boots the application twice on a random port, with spring.threads.virtual.enabled off
+ * and on, each against its own in-memory database and a shared Gemini stub with fixed
+ * latency. Both runs drive the same request mix through ResumeApiLoadHarness with more
+ * clients than Tomcat's default 200 request threads. The virtual-thread run needs Java 21
+ * and is skipped otherwise.
+ *
+ * Settings (system properties, with defaults):
+ * - benchmark.thread-model.concurrency=400, benchmark.thread-model.duration-seconds=20
+ * - benchmark.thread-model.gemini-latency-ms=250
+ * - benchmark.thread-model.mix=get=40,pdf=20,enhance=20,score=20
+ *
+ * Run with: mvn test -Pbenchmark,virtual-threads
+ */
+@Tag("benchmark")
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+class ThreadModelBenchmarkTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.thread-model.concurrency", 400);
+    private static final int DURATION_SECONDS = Integer.getInteger("benchmark.thread-model.duration-seconds", 20);
+    private static final int WARMUP_SECONDS = 5;
+    private static final int RESUMES = 50;
+    private static final int GEMINI_LATENCY_MS = Integer.getInteger("benchmark.thread-model.gemini-latency-ms", 250);
+    private static final String MIX =
+            System.getProperty("benchmark.thread-model.mix", "get=40,pdf=20,enhance=20,score=20");
+
+    private static GeminiStubServer geminiStub;
+    private static LoadResult platformResult;
+
+    @DynamicPropertySource
+    static void geminiStubEndpoint(DynamicPropertyRegistry registry) throws IOException {
+        if (geminiStub == null) {
+            geminiStub = new GeminiStubServer().start();
+            geminiStub.setLatency(Duration.ofMillis(GEMINI_LATENCY_MS));
+        }
+        registry.add("gemini.api.endpoint", geminiStub::getEndpoint);
+    }
+
+    @AfterAll
+    static void stopGeminiStub() {
+        if (geminiStub != null) {
+            geminiStub.close();
+        }
+    }
+
+    private static LoadResult benchmark(String label, int port, ObjectMapper objectMapper) throws Exception {
+        Map<Endpoint, Integer> weights = ResumeApiLoadHarness.parseMix(MIX);
+        ResumeApiLoadHarness harness = new ResumeApiLoadHarness(port, objectMapper);
+        harness.seedResumes(RESUMES);
+
+        harness.run(weights, CONCURRENCY, WARMUP_SECONDS);
+        LoadResult result = harness.run(weights, CONCURRENCY, DURATION_SECONDS);
+
+        harness.report(String.format("%s: %d clients for %.1fs, Gemini stub %d ms latency",
+                label, CONCURRENCY, result.getSeconds(), GEMINI_LATENCY_MS), result);
+        for (Endpoint endpoint : weights.keySet()) {
+            assertTrue(result.get(endpoint).getCount() > result.get(endpoint).getErrors(),
+                    label + ": " + endpoint + " had no successful requests");
+        }
+        if (platformResult != null) {
+            harness.reportComparison("platform threads", platformResult, label, result);
+        }
+        return result;
+    }
+
+    @Nested
+    @Order(1)
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=false",
+            "spring.datasource.url=jdbc:h2:mem:thread_model_platform;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            // Measure the thread model, not the AI rate limit or response cache
+            "gemini.api.requests-per-minute=1000000",
+            "gemini.cache.enabled=false",
+            "logging.level.root=WARN",
+            "logging.level.com.airesumebuilder=WARN"
+    })
+    @ActiveProfiles("test")
+    class PlatformThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Test
+        void benchmarkResumeApi_PlatformThreads() throws Exception {
+            platformResult = benchmark("platform threads", port, objectMapper);
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=true",
+            "spring.datasource.url=jdbc:h2:mem:thread_model_virtual;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "gemini.api.requests-per-minute=1000000",
+            "gemini.cache.enabled=false",
+            "logging.level.root=WARN",
+            "logging.level.com.airesumebuilder=WARN"
+    })
+    @ActiveProfiles("test")
+    class VirtualThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Test
+        void benchmarkResumeApi_VirtualThreads() throws Exception {
+            assumeTrue(Runtime.version().feature() >= 21,
+                    "virtual threads need Java 21, running " + Runtime.version());
+            benchmark("virtual threads", port, objectMapper);
+        }
+    }
+}
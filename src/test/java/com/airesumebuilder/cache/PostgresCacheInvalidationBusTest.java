@@ -0,0 +1,93 @@
+package com.airesumebuilder.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PostgresCacheInvalidationBus
+ *
+ * The LISTEN connection needs a Postgres server, so these tests cover the parts around it.
+ *
+ * Tests cover:
+ * - Publishing through pg_notify on the invalidation channel
+ * - Payload round trip for key and clear messages
+ * - Oversized payloads degrading to a clear
+ * - Delivery to subscribers, skipping unreadable payloads
+ */
+@ExtendWith(MockitoExtension.class)
+class PostgresCacheInvalidationBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PostgresCacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new PostgresCacheInvalidationBus(jdbcTemplate, () -> {
+            throw new AssertionError("no listening connection in unit tests");
+        }, new ObjectMapper());
+    }
+
+    @Test
+    void testPublish_NotifiesChannelWithEncodedMessage() throws Exception {
+        // Act
+        bus.publish(new CacheInvalidationMessage("node-a", "resumes", "42"));
+
+        // Assert
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForObject(eq("SELECT pg_notify(?, ?)"), eq(Object.class),
+                eq(PostgresCacheInvalidationBus.CHANNEL), payload.capture());
+        CacheInvalidationMessage sent = bus.decode(payload.getValue());
+        assertEquals("node-a", sent.getOriginNodeId());
+        assertEquals("resumes", sent.getCacheName());
+        assertEquals("42", sent.getKey());
+    }
+
+    @Test
+    void testEncodeDecode_ClearMessageKeepsNullKey() throws Exception {
+        CacheInvalidationMessage decoded = bus.decode(bus.encode(new CacheInvalidationMessage("node-a", "resumes", null)));
+
+        assertTrue(decoded.isClear());
+        assertEquals("resumes", decoded.getCacheName());
+    }
+
+    @Test
+    void testPublish_OversizedKeyBecomesClear() throws Exception {
+        // Act
+        bus.publish(new CacheInvalidationMessage("node-a", "resumes", "x".repeat(10000)));
+
+        // Assert
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForObject(anyString(), eq(Object.class), anyString(), payload.capture());
+        assertTrue(bus.decode(payload.getValue()).isClear());
+    }
+
+    @Test
+    void testDispatch_DeliversToSubscribersAndSkipsGarbage() {
+        // Arrange
+        List<CacheInvalidationMessage> received = new ArrayList<>();
+        bus.subscribe(received::add);
+
+        // Act
+        bus.dispatch("not json");
+        bus.dispatch(bus.encode(new CacheInvalidationMessage("node-b", "resumes", "7")));
+
+        // Assert
+        assertEquals(1, received.size());
+        assertEquals("7", received.get(0).getKey());
+    }
+}
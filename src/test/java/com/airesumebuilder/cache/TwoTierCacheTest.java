@@ -0,0 +1,198 @@
+package com.airesumebuilder.cache;
+
+import com.airesumebuilder.dto.ResumeDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TwoTierCache
+ *
+ * Two cache managers share one in-memory shared tier and invalidation bus,
+ * standing in for two application instances.
+ *
+ * Tests cover:
+ * - Shared tier fallback and near-cache population
+ * - Cross-instance invalidation on evict and clear
+ * - Loads racing with an invalidation are not cached
+ * - Concurrent misses on one key load once
+ * - Shared tier expiry and entry bound
+ */
+class TwoTierCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private InMemorySharedCacheTier sharedTier;
+    private InMemoryCacheInvalidationBus invalidationBus;
+    private TwoTierCache nodeA;
+    private TwoTierCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        sharedTier = new InMemorySharedCacheTier();
+        invalidationBus = new InMemoryCacheInvalidationBus();
+        nodeA = newNode("node-a", Duration.ofMinutes(30));
+        nodeB = newNode("node-b", Duration.ofMinutes(30));
+    }
+
+    private TwoTierCache newNode(String nodeId, Duration sharedTtl) {
+        TwoTierCache cache = new TwoTierCache("resumes", ResumeDTO.class, Caffeine.newBuilder().build(),
+                sharedTier, invalidationBus, objectMapper, nodeId, sharedTtl);
+        new TwoTierCacheManager(List.of(cache), invalidationBus);
+        return cache;
+    }
+
+    private ResumeDTO resume(Long id, String firstName) {
+        ResumeDTO dto = new ResumeDTO();
+        dto.setId(id);
+        dto.setFirstName(firstName);
+        return dto;
+    }
+
+    @Test
+    void testGet_FallsBackToSharedTierAndFillsNearCache() {
+        // Arrange
+        nodeA.put(1L, resume(1L, "John"));
+
+        // Act
+        ResumeDTO fromShared = nodeB.get(1L, ResumeDTO.class);
+
+        // Assert
+        assertNotNull(fromShared);
+        assertEquals("John", fromShared.getFirstName());
+        assertSame(fromShared, nodeB.getNativeCache().getIfPresent("1"));
+    }
+
+    @Test
+    void testEvict_DropsOtherNodesNearCacheCopy() {
+        // Arrange
+        nodeA.put(1L, resume(1L, "John"));
+        assertNotNull(nodeB.get(1L));
+
+        // Act
+        nodeA.evict(1L);
+
+        // Assert
+        assertNull(nodeB.getNativeCache().getIfPresent("1"));
+        assertNull(nodeB.get(1L));
+        assertNull(nodeA.get(1L));
+    }
+
+    @Test
+    void testClear_DropsEveryNearCacheEntryOnOtherNodes() {
+        // Arrange
+        nodeA.put(1L, resume(1L, "John"));
+        nodeA.put(2L, resume(2L, "Jane"));
+        nodeB.get(1L);
+        nodeB.get(2L);
+
+        // Act
+        nodeA.clear();
+
+        // Assert
+        assertEquals(0, nodeB.getNativeCache().estimatedSize());
+        assertNull(nodeB.get(2L));
+    }
+
+    @Test
+    void testGetWithLoader_LoadsOnceAndSharesResult() {
+        // Act
+        ResumeDTO loaded = nodeA.get(3L, () -> resume(3L, "Alex"));
+        ResumeDTO fromOtherNode = nodeB.get(3L, () -> fail("should be served from the shared tier"));
+
+        // Assert
+        assertEquals("Alex", loaded.getFirstName());
+        assertEquals("Alex", fromOtherNode.getFirstName());
+    }
+
+    @Test
+    void testGetWithLoader_DoesNotCacheValueInvalidatedWhileLoading() {
+        // Act - another instance evicts the entry while this one is still loading it
+        ResumeDTO loaded = nodeA.get(5L, () -> {
+            nodeB.evict(5L);
+            return resume(5L, "Stale");
+        });
+
+        // Assert
+        assertEquals("Stale", loaded.getFirstName());
+        assertNull(nodeA.getNativeCache().getIfPresent("5"));
+        assertNull(sharedTier.get("resumes", "5"));
+    }
+
+    @Test
+    void testGetWithLoader_ConcurrentMissesLoadOnce() throws Exception {
+        // Arrange
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+        // Act - the first caller blocks inside the loader while the others miss
+        try {
+            List<Future<ResumeDTO>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> nodeA.get(6L, () -> {
+                    loads.incrementAndGet();
+                    loaderEntered.countDown();
+                    assertTrue(releaseLoader.await(5, TimeUnit.SECONDS));
+                    return resume(6L, "Riley");
+                })));
+            }
+            assertTrue(loaderEntered.await(5, TimeUnit.SECONDS));
+            Thread.sleep(50);
+            releaseLoader.countDown();
+
+            // Assert
+            for (Future<ResumeDTO> result : results) {
+                assertEquals("Riley", result.get(5, TimeUnit.SECONDS).getFirstName());
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSharedTier_ExpiresEntriesAfterTtl() throws InterruptedException {
+        // Arrange
+        TwoTierCache shortLived = newNode("node-c", Duration.ofMillis(20));
+        shortLived.put(4L, resume(4L, "Sam"));
+
+        // Act
+        Thread.sleep(40);
+
+        // Assert
+        assertNull(sharedTier.get("resumes", "4"));
+        assertNull(nodeB.get(4L));
+    }
+
+    @Test
+    void testSharedTier_BoundedByEntryCount() {
+        // Arrange
+        InMemorySharedCacheTier boundedTier = new InMemorySharedCacheTier(10);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            boundedTier.put("resumes", String.valueOf(i), new byte[]{1}, Duration.ofMinutes(30));
+        }
+
+        // Assert
+        assertEquals(10, boundedTier.size("resumes"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.airesumebuilder.loadtest;
+
+import com.airesumebuilder.support.GeminiStubServer;
+import com.airesumebuilder.support.ResumeApiLoadHarness;
+import com.airesumebuilder.support.ResumeApiLoadHarness.Endpoint;
+import com.airesumebuilder.support.ResumeApiLoadHarness.LoadResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end load test of the resume API.
+ *
+ * Boots the full application on a random port against the H2 database in PostgreSQL
+ * mode and a local Gemini stub with configurable latency and error injection, seeds
+ * synthetic resumes, then drives a weighted mix of submit/get/update/enhance/score/pdf
+ * requests from concurrent clients through ResumeApiLoadHarness. Reports p50/p99 latency,
+ * throughput and error counts per endpoint.
+ *
+ * Settings (system properties, with defaults):
+ * - loadtest.duration-seconds=30, loadtest.warmup-seconds=5
+ * - loadtest.concurrency=32, loadtest.resumes=100
+ * - loadtest.gemini-latency-ms=800, loadtest.gemini-error-rate=0.02
+ * - loadtest.gemini-cache-enabled=false
+ * - loadtest.mix=get=50,update=15,submit=10,pdf=15,enhance=5,score=5
+ *
+ * Run with: mvn test -Ploadtest -Dloadtest.concurrency=64
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // Measure the service, not the per-instance AI rate limit or request logging
+        "gemini.api.requests-per-minute=1000000",
+        // The mix repeats the same enhance/score bodies; measure the stub unless asked otherwise
+        "gemini.cache.enabled=${loadtest.gemini-cache-enabled:false}",
+        "logging.level.root=WARN",
+        "logging.level.com.airesumebuilder=WARN"
+})
+@ActiveProfiles("test")
+class ResumeApiLoadTest {
+
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int RESUMES = Integer.getInteger("loadtest.resumes", 100);
+    private static final int GEMINI_LATENCY_MS = Integer.getInteger("loadtest.gemini-latency-ms", 800);
+    private static final double GEMINI_ERROR_RATE =
+            Double.parseDouble(System.getProperty("loadtest.gemini-error-rate", "0.02"));
+    private static final String MIX =
+            System.getProperty("loadtest.mix", "get=50,update=15,submit=10,pdf=15,enhance=5,score=5");
+
+    private static GeminiStubServer geminiStub;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void geminiStubEndpoint(DynamicPropertyRegistry registry) throws IOException {
+        geminiStub = new GeminiStubServer().start();
+        geminiStub.setLatency(Duration.ofMillis(GEMINI_LATENCY_MS));
+        geminiStub.setErrorRate(GEMINI_ERROR_RATE);
+        registry.add("gemini.api.endpoint", geminiStub::getEndpoint);
+    }
+
+    @AfterAll
+    static void stopGeminiStub() {
+        geminiStub.close();
+    }
+
+    @Test
+    void loadTestResumeApi_ReportsLatencyAndThroughputPerEndpoint() throws Exception {
+        Map<Endpoint, Integer> weights = ResumeApiLoadHarness.parseMix(MIX);
+        ResumeApiLoadHarness harness = new ResumeApiLoadHarness(port, objectMapper);
+        harness.seedResumes(RESUMES);
+
+        harness.run(weights, CONCURRENCY, WARMUP_SECONDS);
+        LoadResult result = harness.run(weights, CONCURRENCY, DURATION_SECONDS);
+
+        harness.report(String.format(
+                "Load test: %d clients for %.1fs, Gemini stub %d ms latency, %.1f%% errors (%d requests, %d injected)",
+                CONCURRENCY, result.getSeconds(), GEMINI_LATENCY_MS, GEMINI_ERROR_RATE * 100,
+                geminiStub.getRequestCount(), geminiStub.getErrorCount()), result);
+        for (Endpoint endpoint : weights.keySet()) {
+            assertTrue(result.get(endpoint).getCount() > result.get(endpoint).getErrors(),
+                    endpoint + " had no successful requests");
+        }
+    }
+}
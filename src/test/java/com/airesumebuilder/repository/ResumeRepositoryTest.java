@@ -0,0 +1,242 @@
+package com.airesumebuilder.repository;
+
+import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.dto.ResumePageDTO;
+import com.airesumebuilder.dto.ResumeSummaryDTO;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.Skill;
+import com.airesumebuilder.service.ResumeService;
+import com.airesumebuilder.support.JdbcRoundTripCounter;
+import com.airesumebuilder.support.SyntheticResumes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the ResumeRepository fetch plan
+ *
+ * Tests cover:
+ * - Loading a resume with all sections in a fixed number of statements
+ * - No duplicated section rows
+ * - Stable section order
+ * - Lookup by email
+ * - Batched inserts of new sections
+ * - Section updates and merge patches that only write the changed rows
+ * - Keyset-paginated summary listing
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ResumeRepositoryTest {
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long resumeId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        resumeId = resumeRepository.save(SyntheticResumes.unsavedResume("fetch.plan@example.com")).getId();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        resumeRepository.deleteById(resumeId);
+    }
+
+    @Test
+    void testFindByIdWithDetails_LoadsAllSectionsInSixStatements() {
+        // Act
+        ResumeData resume = resumeRepository.findByIdWithDetails(resumeId).orElseThrow();
+
+        // Assert - one statement for the resume with its educations, one per other section
+        assertEquals(6, statistics.getPrepareStatementCount());
+        assertEquals(1, resume.getEducations().size());
+        assertEquals(5, resume.getProjects().size());
+        assertEquals(10, resume.getSkills().size());
+        assertEquals(5, resume.getAchievements().size());
+        assertTrue(resume.getCertifications().isEmpty());
+        assertTrue(resume.getLanguages().isEmpty());
+    }
+
+    @Test
+    void testFindByIdWithDetails_KeepsSectionsInInsertionOrder() {
+        // Act
+        ResumeData resume = resumeRepository.findByIdWithDetails(resumeId).orElseThrow();
+
+        // Assert
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Skill " + i, resume.getSkills().get(i).getSkillName());
+        }
+    }
+
+    @Test
+    void testFindByIdWithDetails_NotFound_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(resumeRepository.findByIdWithDetails(-1L).isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindByEmail_LoadsAllSections() {
+        // Act
+        ResumeData resume = resumeRepository.findByEmail("fetch.plan@example.com").orElseThrow();
+
+        // Assert
+        assertEquals(resumeId, resume.getId());
+        assertEquals(10, resume.getSkills().size());
+        assertEquals(6, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testSave_InsertsEachSectionTableInOneBatch() {
+        // Arrange
+        JdbcRoundTripCounter.reset();
+
+        // Act
+        Long id = resumeRepository.save(SyntheticResumes.unsavedResume("batched.insert@example.com")).getId();
+
+        // Assert - resume, education, project, skill and achievement: one insert round trip each
+        assertEquals(5, JdbcRoundTripCounter.getInserts());
+        ResumeData saved = resumeRepository.findByIdWithDetails(id).orElseThrow();
+        assertEquals(5, saved.getProjects().size());
+        assertEquals(10, saved.getSkills().size());
+        resumeRepository.deleteById(id);
+    }
+
+    @Test
+    void testUpdateResume_ChangedSkillIsTheOnlyWrite() {
+        // Arrange
+        ResumeDTO resumeDTO = ResumeDTO.fromEntity(resumeRepository.findByIdWithDetails(resumeId).orElseThrow());
+        resumeDTO.getSkills().get(3).setProficiency("Expert");
+        JdbcRoundTripCounter.reset();
+
+        // Act
+        resumeService.updateResume(resumeId, resumeDTO);
+
+        // Assert - unchanged sections are neither deleted nor re-inserted;
+        // the resume row is only touched to move its version
+        assertEquals(2, JdbcRoundTripCounter.getUpdates());
+        assertEquals(0, JdbcRoundTripCounter.getInserts());
+        assertEquals(0, JdbcRoundTripCounter.getDeletes());
+        ResumeData updated = resumeRepository.findByIdWithDetails(resumeId).orElseThrow();
+        assertEquals("Expert", updated.getSkills().get(3).getProficiency());
+        assertEquals(10, updated.getSkills().size());
+    }
+
+    @Test
+    void testUpdateResume_RemovedAndAddedSkills() {
+        // Arrange
+        ResumeDTO resumeDTO = ResumeDTO.fromEntity(resumeRepository.findByIdWithDetails(resumeId).orElseThrow());
+        List<Skill> skills = new ArrayList<>(resumeDTO.getSkills().subList(0, 8));
+        skills.add(new Skill(null, "Skill 10", "Beginner", null, null));
+        resumeDTO.setSkills(skills);
+        JdbcRoundTripCounter.reset();
+
+        // Act
+        resumeService.updateResume(resumeId, resumeDTO);
+
+        // Assert
+        assertEquals(1, JdbcRoundTripCounter.getInserts());
+        assertEquals(1, JdbcRoundTripCounter.getDeletes());
+        assertEquals(1, JdbcRoundTripCounter.getUpdates());
+        ResumeData updated = resumeRepository.findByIdWithDetails(resumeId).orElseThrow();
+        assertEquals(9, updated.getSkills().size());
+        assertEquals("Skill 10", updated.getSkills().get(8).getSkillName());
+    }
+
+    @Test
+    void testPatchResume_ElementPatchWritesOnlyThatRow() throws Exception {
+        // Arrange
+        List<Long> skillIds = resumeRepository.findByIdWithDetails(resumeId).orElseThrow()
+                .getSkills().stream().map(Skill::getId).toList();
+        StringBuilder patch = new StringBuilder("{\"location\": \"Pune\", \"skills\": [");
+        for (Long skillId : skillIds) {
+            patch.append(skillId.equals(skillIds.get(3))
+                    ? "{\"id\": " + skillId + ", \"proficiency\": \"Expert\"},"
+                    : "{\"id\": " + skillId + "},");
+        }
+        patch.setCharAt(patch.length() - 1, ']');
+        patch.append('}');
+        JdbcRoundTripCounter.reset();
+
+        // Act
+        resumeService.patchResume(resumeId, new ObjectMapper().readTree(patch.toString()));
+
+        // Assert - one update for the resume row, one for the skill
+        assertEquals(2, JdbcRoundTripCounter.getUpdates());
+        assertEquals(0, JdbcRoundTripCounter.getInserts());
+        assertEquals(0, JdbcRoundTripCounter.getDeletes());
+        ResumeData patched = resumeRepository.findByIdWithDetails(resumeId).orElseThrow();
+        assertEquals("Pune", patched.getLocation());
+        assertEquals("Expert", patched.getSkills().get(3).getProficiency());
+        assertEquals("Advanced", patched.getSkills().get(4).getProficiency());
+        assertEquals(5, patched.getProjects().size());
+    }
+
+    @Test
+    void testListResumes_PagesThroughAllResumesNewestFirst() {
+        // Arrange
+        List<ResumeData> cohort = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            ResumeData resume = SyntheticResumes.unsavedResume("keyset" + i + "@paging.example.com");
+            resume.setTemplate(i % 2 == 0 ? "modern" : "classic");
+            cohort.add(resume);
+        }
+        resumeRepository.saveAll(cohort);
+
+        try {
+            // Act
+            List<ResumeSummaryDTO> seen = new ArrayList<>();
+            List<Integer> pageSizes = new ArrayList<>();
+            String cursor = null;
+            do {
+                statistics.clear();
+                ResumePageDTO page = resumeService.listResumes("PAGING.example", null, cursor, 10);
+                assertEquals(1, statistics.getPrepareStatementCount());
+                pageSizes.add(page.getItems().size());
+                seen.addAll(page.getItems());
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            // Assert
+            assertEquals(List.of(10, 10, 5), pageSizes);
+            Set<Long> ids = new HashSet<>();
+            for (int i = 0; i < seen.size(); i++) {
+                assertTrue(ids.add(seen.get(i).getId()));
+                if (i > 0) {
+                    ResumeSummaryDTO previous = seen.get(i - 1);
+                    ResumeSummaryDTO current = seen.get(i);
+                    assertFalse(current.getCreatedAt().isAfter(previous.getCreatedAt()));
+                    assertTrue(current.getCreatedAt().isBefore(previous.getCreatedAt())
+                            || current.getId() < previous.getId());
+                }
+            }
+            assertEquals(13, resumeService.listResumes("paging.example", "modern", null, 100).getItems().size());
+        } finally {
+            resumeRepository.deleteAll(cohort);
+        }
+    }
+}
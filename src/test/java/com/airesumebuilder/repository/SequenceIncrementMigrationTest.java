@@ -0,0 +1,68 @@
+package com.airesumebuilder.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SequenceIncrementMigration
+ *
+ * Tests cover:
+ * - Altering only existing sequences whose increment differs from allocationSize
+ * - Leaving databases other than PostgreSQL untouched
+ */
+@ExtendWith(MockitoExtension.class)
+class SequenceIncrementMigrationTest {
+
+    private static final String INCREMENT_QUERY =
+            "SELECT increment_by FROM pg_sequences WHERE schemaname = current_schema() AND sequencename = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private SequenceIncrementMigration migration;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMigrate_Postgres_AltersMismatchedSequencesOnly() {
+        // Arrange
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(jdbcTemplate.queryForList(eq(INCREMENT_QUERY), eq(Long.class), anyString())).thenReturn(List.of(50L));
+        when(jdbcTemplate.queryForList(INCREMENT_QUERY, Long.class, "resume_data_id_seq")).thenReturn(List.of(1L));
+        when(jdbcTemplate.queryForList(INCREMENT_QUERY, Long.class, "skill_id_seq")).thenReturn(List.of());
+
+        // Act
+        migration.afterPropertiesSet();
+
+        // Assert
+        verify(jdbcTemplate).execute("ALTER SEQUENCE resume_data_id_seq INCREMENT BY 50");
+        verify(jdbcTemplate, never()).execute("ALTER SEQUENCE skill_id_seq INCREMENT BY 50");
+        verify(jdbcTemplate, never()).execute("ALTER SEQUENCE education_id_seq INCREMENT BY 50");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMigrate_OtherDatabase_DoesNothing() {
+        // Arrange
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        // Act
+        migration.afterPropertiesSet();
+
+        // Assert
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Long.class), any());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
@@ -0,0 +1,83 @@
+package com.airesumebuilder.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PostgresSearchIndexUpdateBus
+ *
+ * The LISTEN connection needs a Postgres server, so these tests cover the parts around it.
+ *
+ * Tests cover:
+ * - Publishing through pg_notify on the search index channel
+ * - Large announcements split into notifications below the payload limit
+ * - Rejection of unreadable payloads; delivery itself is covered with the cache invalidation bus
+ */
+@ExtendWith(MockitoExtension.class)
+class PostgresSearchIndexUpdateBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PostgresSearchIndexUpdateBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new PostgresSearchIndexUpdateBus(jdbcTemplate, () -> {
+            throw new AssertionError("no listening connection in unit tests");
+        }, new ObjectMapper());
+    }
+
+    @Test
+    void testPublish_NotifiesChannelWithEncodedMessage() throws Exception {
+        // Act
+        bus.publish(new SearchIndexUpdateMessage("node-a", List.of(42L, 43L)));
+
+        // Assert
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForObject(eq("SELECT pg_notify(?, ?)"), eq(Object.class),
+                eq(PostgresSearchIndexUpdateBus.CHANNEL), payload.capture());
+        SearchIndexUpdateMessage sent = bus.decode(payload.getValue());
+        assertEquals("node-a", sent.getOriginNodeId());
+        assertEquals(List.of(42L, 43L), sent.getResumeIds());
+    }
+
+    @Test
+    void testPublish_LargeAnnouncementSplitIntoNotifications() throws Exception {
+        // Arrange
+        List<Long> resumeIds = LongStream.rangeClosed(1, 450).map(id -> Long.MAX_VALUE - id).boxed().toList();
+
+        // Act
+        bus.publish(new SearchIndexUpdateMessage("node-a", resumeIds));
+
+        // Assert
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(3)).queryForObject(anyString(), eq(Object.class), anyString(), payload.capture());
+        List<Long> announced = new ArrayList<>();
+        for (String sent : payload.getAllValues()) {
+            assertTrue(sent.length() < 7900);
+            announced.addAll(bus.decode(sent).getResumeIds());
+        }
+        assertEquals(resumeIds, announced);
+    }
+
+    @Test
+    void testDecode_UnreadablePayloadThrows() {
+        assertThrows(JsonProcessingException.class, () -> bus.decode("not json"));
+    }
+}
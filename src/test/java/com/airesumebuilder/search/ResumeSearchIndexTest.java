@@ -0,0 +1,199 @@
+package com.airesumebuilder.search;
+
+import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.dto.ResumeSearchHitDTO;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.Project;
+import com.airesumebuilder.model.Skill;
+import com.airesumebuilder.repository.ResumeRepository;
+import com.airesumebuilder.service.ResumeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ResumeSearchIndex
+ *
+ * Runs against its own in-memory database so the index never sees rows of other test classes.
+ *
+ * Tests cover:
+ * - Ranking of skill matches above project and free-text matches
+ * - Index updates after committed updates and deletes
+ * - Reindexing on changes announced by other instances, one or many resumes per message
+ * - One announcement for all resumes saved in one transaction
+ * - Full rebuild from the database
+ */
+@SpringBootTest(properties = {
+        "search.index.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:resume_search;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("test")
+class ResumeSearchIndexTest {
+
+    @Autowired
+    private ResumeSearchIndex resumeSearchIndex;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private SearchIndexUpdateBus searchIndexUpdateBus;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long javaDeveloperId;
+    private Long kafkaProjectId;
+    private Long pythonDeveloperId;
+
+    @BeforeEach
+    void setUp() {
+        javaDeveloperId = createResume("Asha", "Rao", "Java", "Payments", "Spring Boot, PostgreSQL", null);
+        kafkaProjectId = createResume("Ravi", "Kumar", "Go", "Event pipeline", "Java, Kafka", null);
+        pythonDeveloperId = createResume("Meera", "Iyer", "Python", "Reports", "Pandas",
+                "Data engineer moving into backend work");
+        resumeSearchIndex.awaitPendingUpdates();
+    }
+
+    @AfterEach
+    void tearDown() {
+        resumeRepository.deleteAll();
+        resumeSearchIndex.awaitPendingUpdates();
+    }
+
+    private Long createResume(String firstName, String lastName, String skill, String projectName,
+                              String technologies, String careerObjective) {
+        ResumeDTO dto = new ResumeDTO();
+        dto.setFirstName(firstName);
+        dto.setLastName(lastName);
+        dto.setEmail(firstName.toLowerCase() + "@example.com");
+        dto.setPhone("9876543210");
+        dto.setCareerObjective(careerObjective);
+        dto.setSkills(new ArrayList<>(List.of(new Skill(null, skill, "Advanced", null, null))));
+        dto.setProjects(new ArrayList<>(List.of(
+                new Project(null, projectName, null, technologies, null, null, null, null, null))));
+        return resumeService.createResume(dto).getId();
+    }
+
+    private List<Long> hitIds(String query) {
+        return resumeSearchIndex.search(query, 10).stream().map(ResumeSearchHitDTO::getId).toList();
+    }
+
+    @Test
+    void testSearch_SkillMatchRanksAboveProjectMatch() {
+        // Act
+        List<ResumeSearchHitDTO> hits = resumeSearchIndex.search("java", 10);
+
+        // Assert
+        assertEquals(List.of(javaDeveloperId, kafkaProjectId), hits.stream().map(ResumeSearchHitDTO::getId).toList());
+        assertEquals("Asha", hits.get(0).getFirstName());
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+    }
+
+    @Test
+    void testSearch_MoreMatchingTermsRankHigher() {
+        // Act & Assert
+        assertEquals(kafkaProjectId, hitIds("java kafka").get(0));
+        assertEquals(List.of(pythonDeveloperId), hitIds("backend"));
+        assertTrue(hitIds("cobol").isEmpty());
+    }
+
+    @Test
+    void testUpdateAndDelete_AreReflectedInResults() {
+        // Arrange
+        ResumeDTO update = resumeService.getResumeById(javaDeveloperId);
+        update.getSkills().get(0).setSkillName("Rust");
+
+        // Act
+        resumeService.updateResume(javaDeveloperId, update);
+        resumeService.deleteResume(kafkaProjectId);
+        resumeSearchIndex.awaitPendingUpdates();
+
+        // Assert
+        assertTrue(hitIds("java").isEmpty());
+        assertEquals(List.of(javaDeveloperId), hitIds("rust"));
+    }
+
+    @Test
+    void testRemoteChange_ReindexesResume() {
+        // Arrange - another instance changed the row without this instance seeing the write
+        jdbcTemplate.update("UPDATE skill SET skill_name = ? WHERE resume_id = ?", "Elixir", pythonDeveloperId);
+
+        // Act
+        searchIndexUpdateBus.publish(new SearchIndexUpdateMessage("other-node", List.of(pythonDeveloperId)));
+        resumeSearchIndex.awaitPendingUpdates();
+
+        // Assert
+        assertEquals(List.of(pythonDeveloperId), hitIds("elixir"));
+    }
+
+    @Test
+    void testRemoteChange_BatchOfResumesReindexed() {
+        // Arrange
+        jdbcTemplate.update("UPDATE skill SET skill_name = ? WHERE resume_id IN (?, ?)",
+                "Clojure", javaDeveloperId, kafkaProjectId);
+
+        // Act
+        searchIndexUpdateBus.publish(new SearchIndexUpdateMessage("other-node", List.of(javaDeveloperId, kafkaProjectId)));
+        resumeSearchIndex.awaitPendingUpdates();
+
+        // Assert
+        assertEquals(2, hitIds("clojure").size());
+        assertTrue(hitIds("clojure").containsAll(List.of(javaDeveloperId, kafkaProjectId)));
+    }
+
+    @Test
+    void testSaveInOneTransaction_AnnouncedInOneMessage() {
+        // Arrange
+        List<SearchIndexUpdateMessage> announced = new CopyOnWriteArrayList<>();
+        searchIndexUpdateBus.subscribe(announced::add);
+        List<ResumeData> imported = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ResumeData resume = new ResumeData();
+            resume.setFirstName("Imported" + i);
+            resume.setLastName("Candidate");
+            resume.setEmail("imported" + i + "@example.com");
+            resume.setPhone("9876543210");
+            imported.add(resume);
+        }
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> resumeRepository.saveAll(imported));
+        resumeSearchIndex.awaitPendingUpdates();
+
+        // Assert
+        assertEquals(1, announced.size());
+        assertEquals(3, announced.get(0).getResumeIds().size());
+        assertEquals(3, hitIds("candidate").size());
+    }
+
+    @Test
+    void testRebuild_IndexesRowsWrittenOutsideTheApplication() throws Exception {
+        // Arrange
+        jdbcTemplate.update("UPDATE project SET technologies = ? WHERE resume_id = ?", "Haskell", javaDeveloperId);
+
+        // Act
+        resumeSearchIndex.rebuild();
+
+        // Assert
+        assertEquals(List.of(javaDeveloperId), hitIds("haskell"));
+        assertEquals(List.of(javaDeveloperId, kafkaProjectId), hitIds("java"));
+    }
+}
@@ -0,0 +1,173 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.config.GeminiCacheConfig;
+import com.airesumebuilder.dto.EnhancementRequestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GeminiResponseCache
+ *
+ * Tests cover:
+ * - Keys from normalized content, operation, prompt version and endpoint
+ * - Memory tier hits, entry-bounded eviction and TTL expiry
+ * - Disk tier persistence and expiry
+ * - Storing only results that parse as JSON objects with the required fields
+ */
+@ExtendWith(MockitoExtension.class)
+class GeminiResponseCacheTest {
+
+    private static final String ENDPOINT = "https://example.com/v1beta/models/gemini:generateContent";
+
+    @Spy
+    private GeminiCacheConfig geminiCacheConfig = new GeminiCacheConfig();
+
+    @InjectMocks
+    private GeminiResponseCache responseCache;
+
+    @TempDir
+    Path cacheDir;
+
+    @BeforeEach
+    void setUp() {
+        geminiCacheConfig.setMaxEntries(2);
+        geminiCacheConfig.setDiskDirectory(cacheDir.toString());
+    }
+
+    private EnhancementRequestDTO request(String careerObjective) {
+        return new EnhancementRequestDTO(1L, careerObjective, "Java developer", "Java, SQL", null, null);
+    }
+
+    @Test
+    void testCacheKey_IgnoresWhitespaceAndResumeId() {
+        // Arrange
+        String key = responseCache.cacheKey("enhance", "1", ENDPOINT, request("Seeking a backend role"));
+        EnhancementRequestDTO respaced = request("  Seeking   a\nbackend role ");
+        respaced.setResumeId(2L);
+
+        // Act & Assert
+        assertEquals(key, responseCache.cacheKey("enhance", "1", ENDPOINT, respaced));
+        assertEquals(64, key.length());
+    }
+
+    @Test
+    void testCacheKey_ChangesWithContentOperationPromptVersionAndEndpoint() {
+        EnhancementRequestDTO request = request("Seeking a backend role");
+        String key = responseCache.cacheKey("enhance", "1", ENDPOINT, request);
+
+        assertNotEquals(key, responseCache.cacheKey("enhance", "1", ENDPOINT, request("Seeking a frontend role")));
+        assertNotEquals(key, responseCache.cacheKey("score", "1", ENDPOINT, request));
+        assertNotEquals(key, responseCache.cacheKey("enhance", "2", ENDPOINT, request));
+        assertNotEquals(key, responseCache.cacheKey("enhance", "1", ENDPOINT.replace("gemini", "gemini-pro"), request));
+    }
+
+    @Test
+    void testPutAndGet_MemoryHit() {
+        responseCache.put("a", "{\"score\": 82}");
+
+        assertEquals("{\"score\": 82}", responseCache.get("a").orElseThrow());
+        assertTrue(responseCache.get("b").isEmpty());
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsedWhenOverMaxEntries() {
+        responseCache.put("a", "first");
+        responseCache.put("b", "second");
+        responseCache.get("a");
+        responseCache.put("c", "third");
+
+        assertTrue(responseCache.get("a").isPresent());
+        assertTrue(responseCache.get("b").isEmpty());
+        assertTrue(responseCache.get("c").isPresent());
+    }
+
+    @Test
+    void testGet_ExpiredEntryIsMiss() throws Exception {
+        // Arrange
+        geminiCacheConfig.setTtl(Duration.ofMillis(1));
+        responseCache.put("a", "first");
+
+        // Act
+        Thread.sleep(20);
+
+        // Assert
+        assertTrue(responseCache.get("a").isEmpty());
+    }
+
+    @Test
+    void testGet_DisabledCacheStoresNothing() {
+        geminiCacheConfig.setEnabled(false);
+        responseCache.put("a", "first");
+
+        assertTrue(responseCache.get("a").isEmpty());
+    }
+
+    @Test
+    void testDiskTier_SurvivesNewInstance() {
+        // Arrange
+        geminiCacheConfig.setDiskEnabled(true);
+        responseCache.put("a", "first");
+        GeminiResponseCache restarted = new GeminiResponseCache();
+        ReflectionTestUtils.setField(restarted, "geminiCacheConfig", geminiCacheConfig);
+
+        // Act & Assert
+        assertEquals("first", restarted.get("a").orElseThrow());
+    }
+
+    @Test
+    void testDiskTier_ExpiredFileIsMissAndDeleted() throws Exception {
+        // Arrange
+        geminiCacheConfig.setDiskEnabled(true);
+        responseCache.put("a", "first");
+        Path file = cacheDir.resolve("a.txt");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        GeminiResponseCache restarted = new GeminiResponseCache();
+        ReflectionTestUtils.setField(restarted, "geminiCacheConfig", geminiCacheConfig);
+
+        // Act & Assert
+        assertTrue(restarted.get("a").isEmpty());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void testPutIfComplete_StoresJsonObjectWithRequiredFields() {
+        // Act
+        boolean stored = responseCache.putIfComplete("a", "{\"score\": 82, \"feedback\": \"Clear\"}", List.of("score"));
+
+        // Assert
+        assertTrue(stored);
+        assertEquals("{\"score\": 82, \"feedback\": \"Clear\"}", responseCache.get("a").orElseThrow());
+    }
+
+    @Test
+    void testPutIfComplete_RejectsNonJsonAndMissingFields() {
+        List<String> enhanceFields = List.of("enhancedCareerObjective", "enhancedProfessionalSummary");
+
+        assertFalse(responseCache.putIfComplete("a", "Here is your improved resume!", enhanceFields));
+        assertFalse(responseCache.putIfComplete("b", "```json\n{\"score\": 82}\n```", List.of("score")));
+        assertFalse(responseCache.putIfComplete("c", "[{\"score\": 82}]", List.of("score")));
+        assertFalse(responseCache.putIfComplete("d", "{\"enhancedCareerObjective\": \"Seeking a backend role\"}", enhanceFields));
+        assertFalse(responseCache.putIfComplete("e", "{\"score\": null}", List.of("score")));
+
+        assertTrue(responseCache.get("a").isEmpty());
+        assertTrue(responseCache.get("b").isEmpty());
+        assertTrue(responseCache.get("c").isEmpty());
+        assertTrue(responseCache.get("d").isEmpty());
+        assertTrue(responseCache.get("e").isEmpty());
+    }
+}
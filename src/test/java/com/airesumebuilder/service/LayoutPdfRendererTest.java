@@ -0,0 +1,137 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.model.Achievement;
+import com.airesumebuilder.model.Certification;
+import com.airesumebuilder.model.Education;
+import com.airesumebuilder.model.Language;
+import com.airesumebuilder.model.Project;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.Skill;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LayoutPdfRenderer
+ *
+ * Tests cover:
+ * - Text parity with the HTML renderer for every template
+ * - Resumes with only the required fields
+ * - Markup characters rendered as plain text
+ */
+@ExtendWith(MockitoExtension.class)
+class LayoutPdfRendererTest {
+
+    @InjectMocks
+    private LayoutPdfRenderer layoutPdfRenderer;
+
+    @InjectMocks
+    private PdfService pdfService;
+
+    private ResumeData sampleResume;
+
+    @BeforeEach
+    void setUp() {
+        sampleResume = new ResumeData();
+        sampleResume.setId(1L);
+        sampleResume.setFirstName("Asha");
+        sampleResume.setLastName("Rao");
+        sampleResume.setEmail("asha.rao@example.com");
+        sampleResume.setPhone("9876543210");
+        sampleResume.setLocation("Chennai, India");
+        sampleResume.setCareerObjective("Seeking an entry-level backend role");
+        sampleResume.setEnhancedProfessionalSummary("Computer science graduate with internship experience in Java services");
+        sampleResume.setEducations(new ArrayList<>(List.of(
+                new Education(null, "B.Tech", "Anna University", "Computer Science", 2025, 8.7, null, null))));
+        sampleResume.setSkills(new ArrayList<>(List.of(
+                new Skill(null, "Java", "Intermediate", null, null),
+                new Skill(null, "SQL", null, null, null))));
+        Project project = new Project();
+        project.setProjectName("Library Portal");
+        project.setStartDate("Jan 2024");
+        project.setEndDate("May 2024");
+        project.setDescription("Book lending system for the campus library");
+        project.setTechnologies("Spring Boot, PostgreSQL");
+        sampleResume.setProjects(new ArrayList<>(List.of(project)));
+        sampleResume.setCertifications(new ArrayList<>(List.of(
+                new Certification(null, "Oracle Java SE", "Oracle", "2024", null, null, null, null))));
+        sampleResume.setLanguages(new ArrayList<>(List.of(
+                new Language(null, "English", "Fluent", null),
+                new Language(null, "Tamil", null, null))));
+        sampleResume.setAchievements(new ArrayList<>(List.of(
+                new Achievement(null, "Hackathon winner", "First place at the state-level hackathon", null, null, null))));
+    }
+
+    /**
+     * All text of a PDF with whitespace and list bullets removed, so line breaking does not matter
+     */
+    private String text(byte[] pdfBytes) throws Exception {
+        StringBuilder text = new StringBuilder();
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdfBytes)))) {
+            for (int page = 1; page <= pdf.getNumberOfPages(); page++) {
+                text.append(PdfTextExtractor.getTextFromPage(pdf.getPage(page)));
+            }
+        }
+        return text.toString().replaceAll("[\\s•]+", "");
+    }
+
+    @Test
+    void testRenderPdf_AllTemplates_SameTextAsHtmlRenderer() throws Exception {
+        for (String template : List.of("classic", "modern", "creative")) {
+            // Arrange
+            sampleResume.setTemplate(template);
+            byte[] htmlPdf = pdfService.generatePdfFromHtml(pdfService.buildResumeHtml(sampleResume));
+
+            // Act
+            byte[] layoutPdf = layoutPdfRenderer.renderPdf(sampleResume);
+
+            // Assert
+            assertEquals("%PDF", new String(layoutPdf, 0, 4));
+            assertEquals(text(htmlPdf), text(layoutPdf), template + " template text differs");
+        }
+    }
+
+    @Test
+    void testRenderPdf_RequiredFieldsOnly_SameTextAsHtmlRenderer() throws Exception {
+        // Arrange
+        sampleResume.setLocation(null);
+        sampleResume.setCareerObjective(null);
+        sampleResume.setEnhancedProfessionalSummary(null);
+        sampleResume.setEducations(new ArrayList<>());
+        sampleResume.setSkills(null);
+        sampleResume.setProjects(new ArrayList<>(List.of(new Project())));
+        sampleResume.getProjects().get(0).setProjectName("Portfolio");
+        sampleResume.setCertifications(new ArrayList<>());
+        sampleResume.setLanguages(new ArrayList<>());
+        sampleResume.setAchievements(new ArrayList<>());
+
+        // Act
+        byte[] layoutPdf = layoutPdfRenderer.renderPdf(sampleResume);
+
+        // Assert
+        assertEquals(text(pdfService.generatePdfFromHtml(pdfService.buildResumeHtml(sampleResume))), text(layoutPdf));
+    }
+
+    @Test
+    void testRenderPdf_MarkupInText_RenderedAsText() throws Exception {
+        // Arrange
+        sampleResume.setCareerObjective("Comfortable with <generics> & a < b");
+
+        // Act
+        byte[] layoutPdf = layoutPdfRenderer.renderPdf(sampleResume);
+
+        // Assert
+        assertTrue(text(layoutPdf).contains("Comfortablewith<generics>&a<b"));
+    }
+}
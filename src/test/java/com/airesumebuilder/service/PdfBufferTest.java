@@ -0,0 +1,71 @@
+package com.airesumebuilder.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PdfBuffer
+ *
+ * Tests cover:
+ * - Keeping output within the limit in memory
+ * - Spilling larger output to disk without losing bytes
+ * - Copying the buffered output more than once
+ */
+class PdfBufferTest {
+
+    @Test
+    void testWrite_WithinLimit_StaysInMemory() throws IOException {
+        // Arrange
+        PdfBuffer pdfBuffer = new PdfBuffer(8);
+
+        // Act
+        pdfBuffer.write(new byte[]{'%', 'P', 'D', 'F'});
+        pdfBuffer.write('-');
+
+        // Assert
+        assertTrue(pdfBuffer.isInMemory());
+        assertEquals(5, pdfBuffer.size());
+        assertArrayEquals(new byte[]{'%', 'P', 'D', 'F', '-'}, pdfBuffer.toByteArray());
+    }
+
+    @Test
+    void testWrite_BeyondLimit_SpillsToDisk() throws IOException {
+        // Arrange
+        PdfBuffer pdfBuffer = new PdfBuffer(4);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        // Act
+        pdfBuffer.write(new byte[]{'%', 'P', 'D'});
+        pdfBuffer.write(new byte[]{'F', '-', '1', '.', '7'});
+        pdfBuffer.writeTo(target);
+        pdfBuffer.discard();
+
+        // Assert
+        assertFalse(pdfBuffer.isInMemory());
+        assertNull(pdfBuffer.toByteArray());
+        assertEquals(8, pdfBuffer.size());
+        assertEquals("%PDF-1.7", target.toString());
+    }
+
+    @Test
+    void testWriteTo_SpilledBuffer_CanBeCopiedTwice() throws IOException {
+        // Arrange
+        PdfBuffer pdfBuffer = new PdfBuffer(0);
+        pdfBuffer.write(new byte[]{'%', 'P', 'D', 'F'});
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        // Act
+        pdfBuffer.writeTo(first);
+        pdfBuffer.writeTo(second);
+        pdfBuffer.discard();
+
+        // Assert
+        assertEquals("%PDF", first.toString());
+        assertEquals("%PDF", second.toString());
+    }
+}
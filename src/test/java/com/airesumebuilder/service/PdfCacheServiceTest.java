@@ -0,0 +1,115 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.config.PdfCacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PdfCacheService
+ *
+ * Tests cover:
+ * - Content-addressed cache keys
+ * - Memory tier hits and size-bounded eviction
+ * - Invalidation by resume ID
+ * - Disk tier persistence
+ */
+@ExtendWith(MockitoExtension.class)
+class PdfCacheServiceTest {
+
+    @Spy
+    private PdfCacheConfig pdfCacheConfig = new PdfCacheConfig();
+
+    @InjectMocks
+    private PdfCacheService pdfCacheService;
+
+    @TempDir
+    Path cacheDir;
+
+    @BeforeEach
+    void setUp() {
+        pdfCacheConfig.setMaxBytes(100);
+        pdfCacheConfig.setMaxEntryBytes(60);
+        pdfCacheConfig.setDiskDirectory(cacheDir.toString());
+    }
+
+    @Test
+    void testCacheKey_ChangesWithContentAndTemplate() {
+        String key = pdfCacheService.cacheKey(1L, ResumeTemplate.CLASSIC, "<html>a</html>");
+
+        assertEquals(key, pdfCacheService.cacheKey(1L, ResumeTemplate.CLASSIC, "<html>a</html>"));
+        assertNotEquals(key, pdfCacheService.cacheKey(1L, ResumeTemplate.CLASSIC, "<html>b</html>"));
+        assertNotEquals(key, pdfCacheService.cacheKey(1L, ResumeTemplate.MODERN, "<html>a</html>"));
+        assertTrue(key.startsWith("1-classic-"));
+    }
+
+    @Test
+    void testPutAndGet_MemoryHit() {
+        pdfCacheService.put("1-classic-abc", new byte[]{1, 2, 3});
+
+        assertArrayEquals(new byte[]{1, 2, 3}, pdfCacheService.get("1-classic-abc").orElseThrow());
+        assertTrue(pdfCacheService.get("1-classic-other").isEmpty());
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsedWhenOverBudget() {
+        pdfCacheService.put("1-classic-a", new byte[40]);
+        pdfCacheService.put("2-classic-b", new byte[40]);
+        pdfCacheService.get("1-classic-a");
+        pdfCacheService.put("3-classic-c", new byte[40]);
+
+        assertTrue(pdfCacheService.get("1-classic-a").isPresent());
+        assertTrue(pdfCacheService.get("2-classic-b").isEmpty());
+        assertTrue(pdfCacheService.get("3-classic-c").isPresent());
+    }
+
+    @Test
+    void testPut_SkipsOversizedEntries() {
+        pdfCacheService.put("1-classic-big", new byte[61]);
+
+        assertTrue(pdfCacheService.get("1-classic-big").isEmpty());
+    }
+
+    @Test
+    void testEvict_RemovesOnlyThatResume() {
+        pdfCacheService.put("1-classic-a", new byte[10]);
+        pdfCacheService.put("1-modern-b", new byte[10]);
+        pdfCacheService.put("11-classic-c", new byte[10]);
+
+        pdfCacheService.evict(1L);
+
+        assertTrue(pdfCacheService.get("1-classic-a").isEmpty());
+        assertTrue(pdfCacheService.get("1-modern-b").isEmpty());
+        assertTrue(pdfCacheService.get("11-classic-c").isPresent());
+    }
+
+    @Test
+    void testDiskTier_ServesEntriesEvictedFromMemory() {
+        pdfCacheConfig.setDiskEnabled(true);
+        pdfCacheService.put("1-classic-a", new byte[50]);
+        pdfCacheService.put("2-classic-b", new byte[50]);
+        pdfCacheService.put("3-classic-c", new byte[50]);
+
+        assertTrue(cacheDir.resolve("1-classic-a.pdf").toFile().exists());
+        assertEquals(50, pdfCacheService.get("1-classic-a").orElseThrow().length);
+
+        pdfCacheService.evict(1L);
+        assertFalse(cacheDir.resolve("1-classic-a.pdf").toFile().exists());
+    }
+
+    @Test
+    void testDisabled_NeverCaches() {
+        pdfCacheConfig.setEnabled(false);
+        pdfCacheService.put("1-classic-a", new byte[10]);
+
+        assertTrue(pdfCacheService.get("1-classic-a").isEmpty());
+    }
+}
@@ -0,0 +1,132 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.config.PdfRenderConfig;
+import com.airesumebuilder.exception.PdfRenderCapacityExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PdfRenderExecutor
+ *
+ * Tests cover:
+ * - Running renders on the pool
+ * - Fast-fail admission control when saturated
+ * - Slot release after success, failure and explicit release
+ * - Waiting admission and asynchronous submission for batch renders
+ * - Metrics registration
+ */
+@ExtendWith(MockitoExtension.class)
+class PdfRenderExecutorTest {
+
+    @Spy
+    private PdfRenderConfig pdfRenderConfig = new PdfRenderConfig();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private PdfRenderExecutor pdfRenderExecutor;
+
+    @BeforeEach
+    void setUp() {
+        pdfRenderConfig.setPoolSize(1);
+        pdfRenderConfig.setQueueCapacity(1);
+        pdfRenderConfig.setRetryAfterSeconds(7);
+        pdfRenderExecutor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pdfRenderExecutor.stop();
+    }
+
+    @Test
+    void testRender_RunsOnPoolThread() throws IOException {
+        String threadName = pdfRenderExecutor.render(() -> Thread.currentThread().getName());
+
+        assertTrue(threadName.startsWith("pdf-render-"));
+        assertEquals(1, meterRegistry.get("pdf.render.time").timer().count());
+        assertEquals(1, meterRegistry.get("pdf.render.wait").timer().count());
+    }
+
+    @Test
+    void testReserve_RejectsWhenSaturated() {
+        PdfRenderExecutor.RenderSlot first = pdfRenderExecutor.reserve();
+        PdfRenderExecutor.RenderSlot second = pdfRenderExecutor.reserve();
+
+        PdfRenderCapacityExceededException ex =
+                assertThrows(PdfRenderCapacityExceededException.class, () -> pdfRenderExecutor.reserve());
+        assertEquals(7, ex.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("pdf.render.rejected").counter().count());
+
+        first.release();
+        second.release();
+        assertDoesNotThrow(() -> pdfRenderExecutor.reserve().release());
+    }
+
+    @Test
+    void testRun_ReleasesSlotAndPropagatesFailure() {
+        PdfRenderExecutor.RenderSlot slot = pdfRenderExecutor.reserve();
+
+        assertThrows(IllegalStateException.class, () -> slot.run(() -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertThrows(IOException.class, () -> pdfRenderExecutor.render(() -> {
+            throw new IOException("client gone");
+        }));
+
+        // Both slots were returned, so the full capacity is available again
+        pdfRenderExecutor.reserve();
+        pdfRenderExecutor.reserve();
+    }
+
+    @Test
+    void testReserveWithTimeout_WaitsForReleasedSlot() throws Exception {
+        PdfRenderExecutor.RenderSlot first = pdfRenderExecutor.reserve();
+        PdfRenderExecutor.RenderSlot second = pdfRenderExecutor.reserve();
+
+        assertThrows(PdfRenderCapacityExceededException.class,
+                () -> pdfRenderExecutor.reserve(10, TimeUnit.MILLISECONDS));
+
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(first::release);
+        PdfRenderExecutor.RenderSlot third = pdfRenderExecutor.reserve(5, TimeUnit.SECONDS);
+        second.release();
+        third.release();
+    }
+
+    @Test
+    void testSubmit_CompletesFutureAndReleasesSlot() throws Exception {
+        CompletableFuture<String> done = pdfRenderExecutor.reserve().submit(() -> "pdf");
+        CompletableFuture<String> failed = pdfRenderExecutor.reserve().submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertEquals("pdf", done.get(5, TimeUnit.SECONDS));
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+
+        // Both slots were returned, so the full capacity is available again
+        pdfRenderExecutor.reserve(5, TimeUnit.SECONDS);
+        pdfRenderExecutor.reserve(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testGauges_Registered() {
+        assertNotNull(meterRegistry.find("pdf.render.queue.depth").gauge());
+        assertNotNull(meterRegistry.find("pdf.render.active").gauge());
+    }
+}
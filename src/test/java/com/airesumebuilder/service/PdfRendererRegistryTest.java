@@ -0,0 +1,50 @@
+package com.airesumebuilder.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PdfRendererRegistry
+ *
+ * Tests cover:
+ * - Default engine and per-template overrides
+ * - Rejection of unknown engine names
+ */
+class PdfRendererRegistryTest {
+
+    private final PdfRendererRegistry pdfRendererRegistry = new PdfRendererRegistry();
+
+    private final HtmlPdfRenderer htmlPdfRenderer = new HtmlPdfRenderer();
+
+    private final LayoutPdfRenderer layoutPdfRenderer = new LayoutPdfRenderer();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pdfRendererRegistry, "renderers", List.of(htmlPdfRenderer, layoutPdfRenderer));
+    }
+
+    @Test
+    void testForTemplate_OverrideWinsOverDefault() {
+        // Arrange
+        Map<String, String> templateEngines = Map.of("creative", "html");
+
+        // Act & Assert
+        assertSame(layoutPdfRenderer, pdfRendererRegistry.forTemplate(ResumeTemplate.CLASSIC, "layout", templateEngines));
+        assertSame(htmlPdfRenderer, pdfRendererRegistry.forTemplate(ResumeTemplate.CREATIVE, "layout", templateEngines));
+        assertSame(layoutPdfRenderer, pdfRendererRegistry.get(" Layout "));
+    }
+
+    @Test
+    void testValidate_UnknownEngine_ThrowsException() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> pdfRendererRegistry.validate("layout", Map.of("modern", "flying-saucer")));
+        assertTrue(exception.getMessage().contains("[html, layout]"));
+    }
+}
@@ -1,13 +1,23 @@
 package com.airesumebuilder.service;
 
+import com.airesumebuilder.model.Project;
 import com.airesumebuilder.model.ResumeData;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfOutline;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,6 +29,9 @@ import static org.junit.jupiter.api.Assertions.*;
  * - Resume HTML building with different templates
  * - Handling of different resume sections
  * - Error handling
+ * - Escaping of markup in user text
+ * - Host-independent fonts for every template
+ * - Multi-resume books with shared resources and bookmarks
  */
 @ExtendWith(MockitoExtension.class)
 class PdfServiceTest {
@@ -218,12 +231,81 @@ class PdfServiceTest {
 
         // Assert
         assertNotNull(html);
-        assertTrue(html.contains("John & Jane"));
+        assertTrue(html.contains("John &amp; Jane"));
         // HTML should be properly formed even with special characters
         assertTrue(html.contains("<html>"));
         assertTrue(html.contains("</html>"));
     }
 
+    @Test
+    void testBuildResumeHtml_MarkupInProjectDescription_RendersAsText() throws Exception {
+        // Arrange
+        Project project = new Project();
+        project.setProjectName("Parser");
+        project.setDescription("Handles a < b and <br> tags");
+        sampleResume.setProjects(new ArrayList<>(List.of(project)));
+
+        // Act
+        String html = pdfService.buildResumeHtml(sampleResume);
+        byte[] pdfBytes = pdfService.generatePdfFromHtml(html);
+
+        // Assert
+        assertTrue(html.contains("Handles a &lt; b and &lt;br&gt; tags"));
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdfBytes)))) {
+            String text = PdfTextExtractor.getTextFromPage(pdf.getFirstPage());
+            assertTrue(text.contains("Handles a < b and <br> tags"));
+        }
+    }
+
+    @Test
+    void testBuildResumeHtml_EntitiesInUserText_RenderAsTyped() throws Exception {
+        // Arrange
+        Project project = new Project();
+        project.setProjectName("R&D");
+        project.setDescription("Wrote &lt;br&gt; &amp; &copy; literally");
+        sampleResume.setProjects(new ArrayList<>(List.of(project)));
+
+        // Act
+        String html = pdfService.buildResumeHtml(sampleResume);
+        byte[] pdfBytes = pdfService.generatePdfFromHtml(html);
+
+        // Assert
+        assertTrue(html.contains("R&amp;D"));
+        assertTrue(html.contains("Wrote &amp;lt;br&amp;gt; &amp;amp; &amp;copy; literally"));
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdfBytes)))) {
+            String text = PdfTextExtractor.getTextFromPage(pdf.getFirstPage());
+            assertTrue(text.contains("R&D"));
+            assertTrue(text.contains("Wrote &lt;br&gt; &amp; &copy; literally"));
+        }
+    }
+
+    @Test
+    void testText_PlainText_ReturnedWithoutCopy() {
+        String plain = "Java developer, 5 years";
+
+        assertSame(plain, PdfService.text(plain));
+    }
+
+    @Test
+    void testGeneratePdfFromHtml_AllTemplates_UseStandardSansSerifFonts() throws Exception {
+        for (String template : List.of("classic", "modern", "creative")) {
+            // Arrange
+            sampleResume.setTemplate(template);
+
+            // Act
+            byte[] pdfBytes = pdfService.generatePdfFromHtml(pdfService.buildResumeHtml(sampleResume));
+
+            // Assert
+            try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdfBytes)))) {
+                PdfDictionary fonts = pdf.getFirstPage().getResources().getResource(PdfName.Font);
+                for (PdfName key : fonts.keySet()) {
+                    String baseFont = fonts.getAsDictionary(key).getAsName(PdfName.BaseFont).getValue();
+                    assertTrue(baseFont.startsWith("Helvetica"), template + " template used " + baseFont);
+                }
+            }
+        }
+    }
+
     @Test
     void testEndToEnd_BuildAndGeneratePdf() {
         // Arrange
@@ -242,4 +324,36 @@ class PdfServiceTest {
         assertEquals('D', (char) pdfBytes[2]);
         assertEquals('F', (char) pdfBytes[3]);
     }
+
+    @Test
+    void testResumeBook_OneBookmarkPerResumeAndSmallerThanSeparatePdfs() throws Exception {
+        // Arrange
+        List<String> htmls = new ArrayList<>();
+        long separateBytes = 0;
+        for (String name : List.of("Asha", "Ravi", "Meera", "Kiran")) {
+            sampleResume.setFirstName(name);
+            String html = pdfService.buildResumeHtml(sampleResume);
+            htmls.add(html);
+            separateBytes += pdfService.generatePdfFromHtml(html).length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        try (ResumeBook book = pdfService.openResumeBook(out)) {
+            for (String html : htmls) {
+                book.addResume("Resume " + (book.getResumeCount() + 1), html);
+            }
+        }
+
+        // Assert
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(out.toByteArray())))) {
+            assertTrue(pdf.getNumberOfPages() >= 4);
+            List<PdfOutline> bookmarks = pdf.getOutlines(false).getAllChildren();
+            assertEquals(4, bookmarks.size());
+            assertEquals("Resume 1", bookmarks.get(0).getTitle());
+            assertEquals(4, pdf.getCatalog().getNameTree(PdfName.Dests).getNames().size());
+        }
+        assertTrue(out.size() < separateBytes,
+                "book of " + out.size() + " bytes should be smaller than " + separateBytes + " bytes of separate PDFs");
+    }
 }
@@ -0,0 +1,178 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.exception.ResumeNotFoundException;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.Skill;
+import com.airesumebuilder.repository.ResumeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the coherence of the resumes cache
+ *
+ * Runs the full application against an in-memory database and checks that the
+ * cached entry of a resume never outlives a committed write to it.
+ *
+ * Tests cover:
+ * - Eviction on service updates and deletes
+ * - Eviction on section writes made outside ResumeService
+ * - No eviction for rolled-back writes
+ * - Final consistency under concurrent readers and writers
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ResumeCacheCoherenceTest {
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Cache resumesCache;
+    private Long resumeId;
+
+    @BeforeEach
+    void setUp() {
+        resumesCache = cacheManager.getCache("resumes");
+        resumesCache.clear();
+
+        ResumeDTO dto = new ResumeDTO();
+        dto.setFirstName("John");
+        dto.setLastName("Doe");
+        dto.setEmail("john.doe@example.com");
+        dto.setPhone("9876543210");
+        dto.setCareerObjective("initial");
+        resumeId = resumeService.createResume(dto).getId();
+    }
+
+    private ResumeDTO objectiveUpdate(String careerObjective) {
+        ResumeDTO update = new ResumeDTO();
+        update.setCareerObjective(careerObjective);
+        return update;
+    }
+
+    @Test
+    void testCreateResume_CachesNewResume() {
+        // Assert
+        assertEquals("initial", resumesCache.get(resumeId, ResumeDTO.class).getCareerObjective());
+    }
+
+    @Test
+    void testUpdateResume_EvictsCachedResume() {
+        // Act
+        resumeService.updateResume(resumeId, objectiveUpdate("updated"));
+
+        // Assert
+        assertNull(resumesCache.get(resumeId));
+        assertEquals("updated", resumeService.getResumeById(resumeId).getCareerObjective());
+    }
+
+    @Test
+    void testDeleteResume_EvictsCachedResume() {
+        // Act
+        resumeService.deleteResume(resumeId);
+
+        // Assert
+        assertNull(resumesCache.get(resumeId));
+        assertThrows(ResumeNotFoundException.class, () -> resumeService.getResumeById(resumeId));
+    }
+
+    @Test
+    void testRepositoryWriteOfSection_EvictsCachedResume() {
+        // Act - a write that bypasses ResumeService entirely
+        transactionTemplate.executeWithoutResult(status -> {
+            ResumeData resume = resumeRepository.findById(resumeId).orElseThrow();
+            resume.getSkills().add(new Skill(null, "Java", "Advanced", null, resume));
+        });
+
+        // Assert
+        assertNull(resumesCache.get(resumeId));
+        assertEquals(1, resumeService.getResumeById(resumeId).getSkills().size());
+    }
+
+    @Test
+    void testRolledBackWrite_KeepsCachedResume() {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            resumeRepository.findById(resumeId).orElseThrow().setCareerObjective("never committed");
+            resumeRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals("initial", resumesCache.get(resumeId, ResumeDTO.class).getCareerObjective());
+    }
+
+    @Test
+    void testConcurrentReadsAndWrites_CacheConvergesToLastCommittedWrite() throws Exception {
+        // Arrange
+        int writes = 100;
+        int readers = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(readers + 1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(readers);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < readers; i++) {
+                tasks.add(pool.submit(() -> {
+                    started.countDown();
+                    while (writing.get()) {
+                        resumeService.getResumeById(resumeId);
+                    }
+                }));
+            }
+            tasks.add(pool.submit(() -> {
+                try {
+                    started.await();
+                    for (int i = 1; i <= writes; i++) {
+                        resumeService.updateResume(resumeId, objectiveUpdate("version " + i));
+                    }
+                } finally {
+                    writing.set(false);
+                }
+                return null;
+            }));
+            for (Future<?> task : tasks) {
+                task.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Assert
+        String committed = resumeRepository.findById(resumeId).orElseThrow().getCareerObjective();
+        assertEquals("version " + writes, committed);
+        ResumeDTO cached = resumesCache.get(resumeId, ResumeDTO.class);
+        if (cached != null) {
+            assertEquals(committed, cached.getCareerObjective());
+        }
+        assertEquals(committed, resumeService.getResumeById(resumeId).getCareerObjective());
+    }
+}
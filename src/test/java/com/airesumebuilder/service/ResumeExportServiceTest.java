@@ -0,0 +1,203 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.config.PdfExportConfig;
+import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.model.Skill;
+import com.airesumebuilder.repository.ResumeRepository;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfOutline;
+import com.itextpdf.kernel.pdf.PdfReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the bulk PDF export
+ *
+ * Tests cover:
+ * - One PDF entry per resume, duplicates dropped
+ * - Missing resumes listed in errors.txt without failing the download
+ * - Export larger than the in-flight window
+ * - Renderer backend selected per template, cached apart
+ * - Rejection of empty and oversized requests
+ * - Resume book with one bookmark per existing resume, in request order
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResumeExportServiceTest {
+
+    @Autowired
+    private ResumeExportService resumeExportService;
+
+    @Autowired
+    private PdfExportConfig pdfExportConfig;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<Long> resumeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (String name : List.of("Asha", "Ravi", "Meera", "Kiran", "Divya")) {
+            ResumeDTO dto = new ResumeDTO();
+            dto.setFirstName(name);
+            dto.setLastName("Student");
+            dto.setEmail(name.toLowerCase() + ".export@example.com");
+            dto.setPhone("9876543210");
+            dto.setCareerObjective("Graduate looking for a first role");
+            dto.setSkills(new ArrayList<>(List.of(new Skill(null, "Java", "Intermediate", null, null))));
+            resumeIds.add(resumeService.createResume(dto).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pdfExportConfig.setMaxInFlight(4);
+        pdfExportConfig.setMaxResumes(1000);
+        pdfExportConfig.setEngine("layout");
+        pdfExportConfig.getTemplateEngines().clear();
+        resumeRepository.deleteAllById(resumeIds);
+    }
+
+    private Map<String, byte[]> unzip(byte[] zip) throws Exception {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.put(entry.getName(), in.readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+    @Test
+    void testExportEndpoint_StreamsZipWithErrorsEntry() throws Exception {
+        // Arrange
+        Long first = resumeIds.get(0);
+        Long second = resumeIds.get(1);
+        String body = "[" + first + ", 999999, " + second + ", " + first + "]";
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/api/resume/export")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] zip = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        Map<String, byte[]> entries = unzip(zip);
+        assertEquals(3, entries.size());
+        byte[] pdf = entries.get("resume_" + first + "_Asha_Student.pdf");
+        assertNotNull(pdf);
+        assertEquals("%PDF", new String(pdf, 0, 4, StandardCharsets.US_ASCII));
+        assertTrue(entries.containsKey("resume_" + second + "_Ravi_Student.pdf"));
+        String errors = new String(entries.get(ResumeExportService.ERRORS_ENTRY), StandardCharsets.UTF_8);
+        assertTrue(errors.contains("Resume 999999"));
+    }
+
+    @Test
+    void testWriteZip_MoreResumesThanWindow_ExportsAll() throws Exception {
+        // Arrange
+        pdfExportConfig.setMaxInFlight(2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        resumeExportService.writeZip(resumeIds, out);
+
+        // Assert
+        Map<String, byte[]> entries = unzip(out.toByteArray());
+        assertEquals(resumeIds.size(), entries.size());
+        assertFalse(entries.containsKey(ResumeExportService.ERRORS_ENTRY));
+        assertNotNull(resumeRepository.findById(resumeIds.get(4)).orElseThrow().getGeneratedAt());
+    }
+
+    @Test
+    void testWriteZip_RendererFollowsTemplateSetting() throws Exception {
+        // Arrange
+        List<Long> ids = List.of(resumeIds.get(0));
+        String entry = "resume_" + resumeIds.get(0) + "_Asha_Student.pdf";
+        ByteArrayOutputStream layoutExport = new ByteArrayOutputStream();
+        ByteArrayOutputStream htmlExport = new ByteArrayOutputStream();
+
+        // Act
+        resumeExportService.writeZip(ids, layoutExport);
+        pdfExportConfig.getTemplateEngines().put("classic", "html");
+        resumeExportService.writeZip(ids, htmlExport);
+
+        // Assert - the cached layout PDF must not be served for the HTML path
+        byte[] layoutPdf = unzip(layoutExport.toByteArray()).get(entry);
+        byte[] htmlPdf = unzip(htmlExport.toByteArray()).get(entry);
+        assertEquals("%PDF", new String(layoutPdf, 0, 4, StandardCharsets.US_ASCII));
+        assertEquals("%PDF", new String(htmlPdf, 0, 4, StandardCharsets.US_ASCII));
+        assertFalse(Arrays.equals(layoutPdf, htmlPdf));
+    }
+
+    @Test
+    void testExportEndpoint_EmptyOrTooManyIds_Returns400() throws Exception {
+        // Arrange
+        pdfExportConfig.setMaxResumes(2);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/resume/export").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/resume/export").contentType(MediaType.APPLICATION_JSON)
+                        .content(resumeIds.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testBookEndpoint_OneBookmarkPerExistingResume() throws Exception {
+        // Arrange
+        String body = "[" + resumeIds.get(2) + ", 999999, " + resumeIds.get(0) + "]";
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/api/resume/book")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] book = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(book)))) {
+            List<PdfOutline> bookmarks = pdf.getOutlines(false).getAllChildren();
+            assertEquals(List.of("Meera Student", "Asha Student"), bookmarks.stream().map(PdfOutline::getTitle).toList());
+            assertTrue(pdf.getNumberOfPages() >= 2);
+        }
+    }
+}
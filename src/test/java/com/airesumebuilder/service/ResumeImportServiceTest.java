@@ -0,0 +1,203 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.config.ResumeImportConfig;
+import com.airesumebuilder.dto.ResumeImportErrorDTO;
+import com.airesumebuilder.dto.ResumeImportResultDTO;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.repository.ResumeRepository;
+import com.airesumebuilder.support.JdbcRoundTripCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for bulk resume import
+ *
+ * Tests cover:
+ * - JSON-lines import with malformed and invalid records reported by number
+ * - CSV import mapping education and skills columns
+ * - Rejection of unknown CSV columns
+ * - Isolation of a record the database rejects from the rest of its batch
+ * - Batched inserts for large uploads
+ * - Cap on the number of reported errors
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResumeImportServiceTest {
+
+    private static final String CSV_HEADER = "firstName,lastName,email,phone,degree,university,fieldOfStudy,graduationYear,skills\n";
+
+    @Autowired
+    private ResumeImportService resumeImportService;
+
+    @Autowired
+    private ResumeImportConfig resumeImportConfig;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        resumeImportConfig.setBatchSize(500);
+        resumeImportConfig.setMaxReportedErrors(1000);
+        resumeRepository.deleteAll();
+    }
+
+    private ResumeImportResultDTO importText(String content, ResumeImportService.Format format) throws Exception {
+        return resumeImportService.importResumes(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format);
+    }
+
+    private String jsonLine(String firstName, String phone) {
+        return "{\"firstName\": \"" + firstName + "\", \"lastName\": \"Student\", \"email\": \""
+                + firstName.toLowerCase() + "@example.com\", \"phone\": \"" + phone + "\","
+                + " \"skills\": [{\"skillName\": \"Java\", \"proficiency\": \"Beginner\"}]}\n";
+    }
+
+    @Test
+    void testImportJsonLines_ReportsBadRecordsAndImportsTheRest() throws Exception {
+        // Arrange
+        String upload = jsonLine("Asha", "9876543210")
+                + "\n"
+                + jsonLine("Ravi", "123")
+                + "{\"firstName\": \"Meera\",\n"
+                + jsonLine("Kiran", "9876543211");
+
+        // Act
+        ResumeImportResultDTO result = importText(upload, ResumeImportService.Format.NDJSON);
+
+        // Assert
+        assertEquals(4, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getFailed());
+        List<ResumeImportErrorDTO> errors = result.getErrors();
+        assertEquals(2, errors.get(0).getRecord());
+        assertEquals("ravi@example.com", errors.get(0).getEmail());
+        assertTrue(errors.get(0).getMessage().contains("phone: Phone number must be 10 digits"));
+        assertEquals(3, errors.get(1).getRecord());
+        assertTrue(errors.get(1).getMessage().startsWith("Malformed JSON"));
+        assertFalse(result.isErrorsTruncated());
+        assertTrue(resumeRepository.findByEmail("kiran@example.com").isPresent());
+    }
+
+    @Test
+    void testImportCsv_MapsEducationAndSkills() throws Exception {
+        // Arrange
+        String upload = CSV_HEADER
+                + "Asha,Rao,asha@example.com,9876543210,B.Tech,Anna University,Computer Science,2025,Java; SQL ;\n"
+                + "Ravi,Kumar,ravi@example.com,9876543211,B.Sc,Madras University,Physics,soon,\n"
+                + "Meera,Iyer,meera@example.com,9876543212,,,,,\n";
+
+        // Act
+        ResumeImportResultDTO result = importText(upload, ResumeImportService.Format.CSV);
+
+        // Assert
+        assertEquals(3, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getErrors().get(0).getRecord());
+        transactionTemplate.executeWithoutResult(status -> {
+            ResumeData asha = resumeRepository.findByEmail("asha@example.com").orElseThrow();
+            assertEquals(List.of("Java", "SQL"), asha.getSkills().stream().map(s -> s.getSkillName()).toList());
+            assertEquals(2025, asha.getEducations().get(0).getGraduationYear());
+            ResumeData meera = resumeRepository.findByEmail("meera@example.com").orElseThrow();
+            assertTrue(meera.getEducations().isEmpty());
+        });
+    }
+
+    @Test
+    void testImportEndpoint_UnknownCsvColumn_Returns400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/resume/import").contentType("text/csv")
+                        .content("firstName,lastName,nickname\nAsha,Rao,Ash\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown CSV columns: nickname"));
+        assertEquals(0, resumeRepository.count());
+    }
+
+    @Test
+    void testImportEndpoint_JsonLines_ReturnsCounts() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/resume/import").contentType("application/x-ndjson")
+                        .content(jsonLine("Asha", "9876543210") + jsonLine("Ravi", "9876543211")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(2))
+                .andExpect(jsonPath("$.data.failed").value(0));
+    }
+
+    @Test
+    void testImport_DatabaseRejection_OnlyFailsThatRecord() throws Exception {
+        // Arrange - a skill without a name passes validation but violates a NOT NULL column
+        resumeImportConfig.setBatchSize(2);
+        String upload = jsonLine("Asha", "9876543210")
+                + "{\"firstName\": \"Ravi\", \"lastName\": \"Kumar\", \"email\": \"ravi@example.com\","
+                + " \"phone\": \"9876543211\", \"skills\": [{\"proficiency\": \"Beginner\"}]}\n"
+                + jsonLine("Meera", "9876543212");
+
+        // Act
+        ResumeImportResultDTO result = importText(upload, ResumeImportService.Format.NDJSON);
+
+        // Assert
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getRecord());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("Could not save resume"));
+        assertTrue(resumeRepository.findByEmail("asha@example.com").isPresent());
+        assertTrue(resumeRepository.findByEmail("ravi@example.com").isEmpty());
+    }
+
+    @Test
+    void testImport_LargeUpload_InsertsInJdbcBatches() throws Exception {
+        // Arrange
+        StringBuilder upload = new StringBuilder(CSV_HEADER);
+        for (int i = 0; i < 200; i++) {
+            upload.append("Student,Number").append(i).append(",student").append(i)
+                    .append("@example.com,9876543210,B.Tech,Anna University,Computer Science,2025,Java;SQL\n");
+        }
+        JdbcRoundTripCounter.reset();
+
+        // Act
+        ResumeImportResultDTO result = importText(upload.toString(), ResumeImportService.Format.CSV);
+
+        // Assert - 200 resumes, 200 educations and 400 skills would be 800 statements one by one
+        assertEquals(200, result.getImported());
+        assertTrue(JdbcRoundTripCounter.getInserts() <= 20,
+                "expected batched inserts but saw " + JdbcRoundTripCounter.getInserts());
+        assertTrue(result.getRecordsPerSecond() > 0);
+    }
+
+    @Test
+    void testImport_ErrorReportIsCapped() throws Exception {
+        // Arrange
+        resumeImportConfig.setMaxReportedErrors(2);
+        String upload = jsonLine("Asha", "1") + jsonLine("Ravi", "2") + jsonLine("Meera", "3");
+
+        // Act
+        ResumeImportResultDTO result = importText(upload, ResumeImportService.Format.NDJSON);
+
+        // Assert
+        assertEquals(3, result.getFailed());
+        assertEquals(2, result.getErrors().size());
+        assertTrue(result.isErrorsTruncated());
+    }
+}
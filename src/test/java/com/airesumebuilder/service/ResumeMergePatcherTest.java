@@ -0,0 +1,136 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.exception.InvalidResumeDataException;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.Skill;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResumeMergePatcher
+ *
+ * Tests cover:
+ * - Scalar fields replaced or left untouched
+ * - Validation limited to the patched fields
+ * - Element patches matched by ID
+ * - Removal of sections and elements
+ * - Rejection of read-only fields without partial changes
+ */
+@ExtendWith(MockitoExtension.class)
+class ResumeMergePatcherTest {
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private ResumeSectionMerger resumeSectionMerger = new ResumeSectionMerger();
+
+    @InjectMocks
+    private ResumeMergePatcher resumeMergePatcher;
+
+    private ResumeData resume;
+
+    @BeforeEach
+    void setUp() {
+        resume = new ResumeData();
+        resume.setId(1L);
+        resume.setFirstName("John");
+        resume.setLastName("Doe");
+        resume.setEmail("john.doe@example.com");
+        resume.setPhone("9876543210");
+        resume.setLocation("Chennai");
+        resume.setSkills(new ArrayList<>(List.of(
+                new Skill(10L, "Java", "Advanced", "Backend services", null),
+                new Skill(11L, "SQL", "Intermediate", null, null))));
+    }
+
+    private JsonNode json(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+
+    @Test
+    void testApply_ReplacesOnlyPatchedScalars() throws Exception {
+        // Act
+        resumeMergePatcher.apply(resume, json("{\"location\": \"Pune\", \"careerObjective\": null}"));
+
+        // Assert
+        assertEquals("Pune", resume.getLocation());
+        assertNull(resume.getCareerObjective());
+        assertEquals("John", resume.getFirstName());
+        assertEquals(2, resume.getSkills().size());
+    }
+
+    @Test
+    void testApply_InvalidPatchedField_ThrowsAndChangesNothing() throws Exception {
+        // Act & Assert
+        InvalidResumeDataException e = assertThrows(InvalidResumeDataException.class, () ->
+                resumeMergePatcher.apply(resume, json("{\"location\": \"Pune\", \"phone\": \"123\"}")));
+        assertTrue(e.getMessage().contains("phone: Phone number must be 10 digits"));
+        assertEquals("Chennai", resume.getLocation());
+        assertEquals("9876543210", resume.getPhone());
+    }
+
+    @Test
+    void testApply_RequiredFieldSetToNull_Throws() throws Exception {
+        // Act & Assert
+        InvalidResumeDataException e = assertThrows(InvalidResumeDataException.class, () ->
+                resumeMergePatcher.apply(resume, json("{\"firstName\": null}")));
+        assertTrue(e.getMessage().contains("firstName: First name is required"));
+    }
+
+    @Test
+    void testApply_ElementPatchUpdatesMatchedSkillInPlace() throws Exception {
+        // Arrange
+        Skill java = resume.getSkills().get(0);
+
+        // Act
+        resumeMergePatcher.apply(resume, json(
+                "{\"skills\": [{\"id\": 10, \"proficiency\": \"Expert\"}, {\"id\": 11}, {\"skillName\": \"Go\"}]}"));
+
+        // Assert
+        List<Skill> skills = resume.getSkills();
+        assertEquals(3, skills.size());
+        assertSame(java, skills.get(0));
+        assertEquals("Expert", java.getProficiency());
+        assertEquals("Backend services", java.getDescription());
+        assertEquals("SQL", skills.get(1).getSkillName());
+        assertNull(skills.get(2).getId());
+        assertSame(resume, skills.get(2).getResume());
+    }
+
+    @Test
+    void testApply_OmittedElementIsRemovedAndNullSectionIsCleared() throws Exception {
+        // Act
+        resumeMergePatcher.apply(resume, json("{\"skills\": [{\"id\": 11}], \"languages\": null}"));
+
+        // Assert
+        assertEquals(1, resume.getSkills().size());
+        assertEquals(11L, resume.getSkills().get(0).getId());
+        assertTrue(resume.getLanguages().isEmpty());
+    }
+
+    @Test
+    void testApply_ReadOnlyField_Throws() throws Exception {
+        // Act & Assert
+        InvalidResumeDataException e = assertThrows(InvalidResumeDataException.class, () ->
+                resumeMergePatcher.apply(resume, json("{\"resumeScore\": 99, \"location\": \"Pune\"}")));
+        assertTrue(e.getMessage().contains("resumeScore: field cannot be patched"));
+        assertEquals("Chennai", resume.getLocation());
+    }
+}
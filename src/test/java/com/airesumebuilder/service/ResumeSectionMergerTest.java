@@ -0,0 +1,177 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.model.Education;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.Skill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResumeSectionMerger
+ *
+ * Tests cover:
+ * - In-place update of children matched by ID
+ * - Removal of children missing from the request
+ * - Insert of new children linked to the resume
+ * - IDs that do not belong to the resume
+ * - Sections absent from the request
+ * - Change detection for unchanged and reordered requests
+ */
+class ResumeSectionMergerTest {
+
+    private final ResumeSectionMerger merger = new ResumeSectionMerger();
+
+    private ResumeData resume;
+    private List<Skill> managedSkills;
+
+    @BeforeEach
+    void setUp() {
+        resume = new ResumeData();
+        resume.setId(1L);
+        managedSkills = new ArrayList<>(List.of(
+                new Skill(10L, "Java", "Advanced", null, resume),
+                new Skill(11L, "SQL", "Intermediate", null, resume),
+                new Skill(12L, "Go", "Beginner", null, resume)));
+        resume.setSkills(managedSkills);
+    }
+
+    @Test
+    void testMergeSections_UpdatesMatchedChildInPlace() {
+        // Arrange
+        Skill managedJava = managedSkills.get(0);
+        ResumeDTO request = new ResumeDTO();
+        request.setSkills(List.of(
+                new Skill(10L, "Java", "Expert", "JVM internals", null),
+                new Skill(11L, "SQL", "Intermediate", null, null),
+                new Skill(12L, "Go", "Beginner", null, null)));
+
+        // Act
+        merger.mergeSections(resume, request);
+
+        // Assert
+        assertSame(managedSkills, resume.getSkills());
+        assertSame(managedJava, resume.getSkills().get(0));
+        assertEquals("Expert", managedJava.getProficiency());
+        assertEquals("JVM internals", managedJava.getDescription());
+    }
+
+    @Test
+    void testMergeSections_RemovesMissingAndAddsNewChildren() {
+        // Arrange
+        ResumeDTO request = new ResumeDTO();
+        request.setSkills(List.of(
+                new Skill(12L, "Go", "Beginner", null, null),
+                new Skill(null, "Rust", "Beginner", null, null)));
+
+        // Act
+        merger.mergeSections(resume, request);
+
+        // Assert
+        List<Skill> skills = resume.getSkills();
+        assertEquals(2, skills.size());
+        assertEquals(12L, skills.get(0).getId());
+        assertNull(skills.get(1).getId());
+        assertEquals("Rust", skills.get(1).getSkillName());
+        assertSame(resume, skills.get(1).getResume());
+    }
+
+    @Test
+    void testMergeSections_ForeignOrRepeatedIdIsInsertedAsNew() {
+        // Arrange
+        ResumeDTO request = new ResumeDTO();
+        request.setSkills(List.of(
+                new Skill(10L, "Java", "Advanced", null, null),
+                new Skill(10L, "Kotlin", "Advanced", null, null),
+                new Skill(999L, "Scala", "Beginner", null, null)));
+
+        // Act
+        merger.mergeSections(resume, request);
+
+        // Assert
+        List<Skill> skills = resume.getSkills();
+        assertEquals(3, skills.size());
+        assertEquals(10L, skills.get(0).getId());
+        assertEquals("Java", skills.get(0).getSkillName());
+        assertNull(skills.get(1).getId());
+        assertNull(skills.get(2).getId());
+        assertSame(resume, skills.get(2).getResume());
+    }
+
+    @Test
+    void testMergeSections_NullSectionsAreLeftUntouched() {
+        // Arrange
+        Education education = new Education();
+        education.setDegree("B.Tech");
+        ResumeDTO request = new ResumeDTO();
+        request.setEducations(List.of(education));
+
+        // Act
+        merger.mergeSections(resume, request);
+
+        // Assert
+        assertSame(managedSkills, resume.getSkills());
+        assertEquals(3, resume.getSkills().size());
+        assertEquals(1, resume.getEducations().size());
+        assertSame(resume, resume.getEducations().get(0).getResume());
+    }
+
+    @Test
+    void testMergeSections_UnchangedRequest_ReportsNoChange() {
+        // Arrange
+        ResumeDTO request = new ResumeDTO();
+        request.setSkills(List.of(
+                new Skill(10L, "Java", "Advanced", null, null),
+                new Skill(11L, "SQL", "Intermediate", null, null),
+                new Skill(12L, "Go", "Beginner", null, null)));
+
+        // Act
+        boolean changed = merger.mergeSections(resume, request);
+
+        // Assert
+        assertFalse(changed);
+        assertNull(resume.getUpdatedAt());
+    }
+
+    @Test
+    void testMergeSections_ReorderedRequest_ReportsNoChange() {
+        // Arrange
+        ResumeDTO request = new ResumeDTO();
+        request.setSkills(List.of(
+                new Skill(12L, "Go", "Beginner", null, null),
+                new Skill(10L, "Java", "Advanced", null, null),
+                new Skill(11L, "SQL", "Intermediate", null, null)));
+
+        // Act
+        boolean changed = merger.mergeSections(resume, request);
+
+        // Assert
+        assertFalse(changed);
+        assertNull(resume.getUpdatedAt());
+        assertSame(managedSkills, resume.getSkills());
+        assertEquals(List.of(10L, 11L, 12L), resume.getSkills().stream().map(Skill::getId).toList());
+    }
+
+    @Test
+    void testMergeSections_ReorderedAndEditedRequest_ReportsChange() {
+        // Arrange
+        ResumeDTO request = new ResumeDTO();
+        request.setSkills(List.of(
+                new Skill(12L, "Go", "Intermediate", null, null),
+                new Skill(10L, "Java", "Advanced", null, null),
+                new Skill(11L, "SQL", "Intermediate", null, null)));
+
+        // Act
+        boolean changed = merger.mergeSections(resume, request);
+
+        // Assert
+        assertTrue(changed);
+        assertNotNull(resume.getUpdatedAt());
+        assertEquals("Intermediate", resume.getSkills().get(2).getProficiency());
+    }
+}
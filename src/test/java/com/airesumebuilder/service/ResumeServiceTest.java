@@ -1,5 +1,7 @@
 package com.airesumebuilder.service;
 
+import com.airesumebuilder.config.PdfRenderConfig;
+import com.airesumebuilder.dto.EnhancementRequestDTO;
 import com.airesumebuilder.dto.ResumeDTO;
 import com.airesumebuilder.exception.InvalidResumeDataException;
 import com.airesumebuilder.exception.ResumeNotFoundException;
@@ -10,12 +12,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -27,6 +42,7 @@ import static org.mockito.Mockito.*;
  * - Updating resumes
  * - Exception handling
  * - Caching behavior (integration test)
+ * - PDF rendering through the renderer configured for the template
  */
 @ExtendWith(MockitoExtension.class)
 class ResumeServiceTest {
@@ -40,6 +56,27 @@ class ResumeServiceTest {
     @Mock
     private PdfService pdfService;
 
+    @Mock
+    private PdfCacheService pdfCacheService;
+
+    @Mock
+    private PdfRenderExecutor pdfRenderExecutor;
+
+    @Mock
+    private PdfRendererRegistry pdfRendererRegistry;
+
+    @Spy
+    private PdfRenderConfig pdfRenderConfig = new PdfRenderConfig();
+
+    @Spy
+    private ResumeSectionMerger resumeSectionMerger = new ResumeSectionMerger();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private Executor applicationTaskExecutor;
+
     @InjectMocks
     private ResumeService resumeService;
 
@@ -191,4 +228,156 @@ class ResumeServiceTest {
         });
         verify(resumeRepository, never()).delete(any(ResumeData.class));
     }
+
+    private PdfRenderer renderer(String name) {
+        PdfRenderer renderer = mock(PdfRenderer.class);
+        lenient().when(renderer.getName()).thenReturn(name);
+        return renderer;
+    }
+
+    @Test
+    void testPrepareResumePdf_CacheHit_SkipsRendering() {
+        // Arrange
+        byte[] cachedPdf = {'%', 'P', 'D', 'F'};
+        PdfRenderer renderer = renderer("html");
+        when(resumeRepository.findByIdWithDetails(1L)).thenReturn(Optional.of(sampleResumeData));
+        when(pdfService.buildResumeHtml(sampleResumeData)).thenReturn("<html></html>");
+        when(pdfRendererRegistry.forTemplate(any(ResumeTemplate.class), eq("html"), anyMap())).thenReturn(renderer);
+        when(pdfCacheService.cacheKey(eq(1L), any(ResumeTemplate.class), eq("html"), anyString())).thenReturn("1-classic-abc");
+        when(pdfCacheService.get("1-classic-abc")).thenReturn(Optional.of(cachedPdf));
+
+        // Act
+        PreparedPdf preparedPdf = resumeService.prepareResumePdf(1L);
+
+        // Assert
+        assertTrue(preparedPdf.isCached());
+        assertArrayEquals(cachedPdf, preparedPdf.getCachedBytes());
+        verify(renderer, never()).writePdf(any(), anyString(), any(OutputStream.class));
+        verify(pdfRenderExecutor, never()).reserve();
+    }
+
+    @Test
+    void testPrepareResumePdf_CacheMiss_UsesRendererConfiguredForTemplate() {
+        // Arrange
+        sampleResumeData.setTemplate("modern");
+        pdfRenderConfig.getTemplateEngines().put("modern", "layout");
+        PdfRenderer renderer = renderer("layout");
+        PdfRenderExecutor.RenderSlot renderSlot = mock(PdfRenderExecutor.RenderSlot.class);
+        when(resumeRepository.findByIdWithDetails(1L)).thenReturn(Optional.of(sampleResumeData));
+        when(pdfService.buildResumeHtml(sampleResumeData)).thenReturn("<html></html>");
+        when(pdfRendererRegistry.forTemplate(ResumeTemplate.MODERN, "html", Map.of("modern", "layout")))
+                .thenReturn(renderer);
+        when(pdfCacheService.cacheKey(1L, ResumeTemplate.MODERN, "layout", "<html></html>"))
+                .thenReturn("1-modern-layout-abc");
+        when(pdfCacheService.get("1-modern-layout-abc")).thenReturn(Optional.empty());
+        when(pdfRenderExecutor.reserve()).thenReturn(renderSlot);
+
+        // Act
+        PreparedPdf preparedPdf = resumeService.prepareResumePdf(1L);
+
+        // Assert
+        assertFalse(preparedPdf.isCached());
+        assertSame(renderer, preparedPdf.getRenderer());
+        assertSame(sampleResumeData, preparedPdf.getResume());
+        assertEquals("<html></html>", preparedPdf.getHtmlContent());
+        assertEquals("1-modern-layout-abc", preparedPdf.getCacheKey());
+        assertSame(renderSlot, preparedPdf.getRenderSlot());
+    }
+
+    @Test
+    void testWriteResumePdf_StreamsAndCachesRenderedPdf() throws Exception {
+        // Arrange
+        byte[] renderedPdf = {'%', 'P', 'D', 'F', '-'};
+        PdfRenderExecutor.RenderSlot renderSlot = mock(PdfRenderExecutor.RenderSlot.class);
+        when(renderSlot.run(any())).thenAnswer(invocation -> invocation.getArgument(0, Callable.class).call());
+        PdfRenderer renderer = renderer("html");
+        PreparedPdf preparedPdf = new PreparedPdf(1L, "1-classic-abc", sampleResumeData, "<html></html>", renderer, null, renderSlot);
+        when(pdfCacheService.getMaxEntryBytes()).thenReturn(1024L);
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write(renderedPdf);
+            return null;
+        }).when(renderer).writePdf(eq(sampleResumeData), eq("<html></html>"), any(OutputStream.class));
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+
+        // Act
+        resumeService.writeResumePdf(preparedPdf, response);
+
+        // Assert
+        assertArrayEquals(renderedPdf, response.toByteArray());
+        verify(pdfCacheService).put("1-classic-abc", renderedPdf);
+        verify(resumeRepository).updateGeneratedAt(eq(1L), any());
+    }
+
+    @Test
+    void testRenderResumePdf_LargerThanCacheEntry_SpillsAndSkipsCache() throws Exception {
+        // Arrange
+        byte[] renderedPdf = {'%', 'P', 'D', 'F', '-', '1', '.', '7'};
+        PdfRenderExecutor.RenderSlot renderSlot = mock(PdfRenderExecutor.RenderSlot.class);
+        when(renderSlot.run(any())).thenAnswer(invocation -> invocation.getArgument(0, Callable.class).call());
+        PdfRenderer renderer = renderer("html");
+        PreparedPdf preparedPdf = new PreparedPdf(1L, "1-classic-abc", sampleResumeData, "<html></html>", renderer, null, renderSlot);
+        when(pdfCacheService.getMaxEntryBytes()).thenReturn(4L);
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write(renderedPdf);
+            return null;
+        }).when(renderer).writePdf(eq(sampleResumeData), eq("<html></html>"), any(OutputStream.class));
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+
+        // Act
+        PdfBuffer pdfBuffer = resumeService.renderResumePdf(preparedPdf);
+        pdfBuffer.writeTo(response);
+        pdfBuffer.discard();
+
+        // Assert
+        assertFalse(pdfBuffer.isInMemory());
+        assertArrayEquals(renderedPdf, response.toByteArray());
+        verify(pdfCacheService, never()).put(anyString(), any());
+        verify(resumeRepository).updateGeneratedAt(eq(1L), any());
+    }
+
+    @Test
+    void testEnhanceResumeAsync_NotFound_SkipsAiCall() {
+        // Arrange
+        when(resumeRepository.existsById(999L)).thenReturn(false);
+
+        // Act
+        CompletableFuture<ResumeDTO> result = resumeService.enhanceResumeAsync(999L, new EnhancementRequestDTO());
+
+        // Assert
+        ExecutionException ex = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(ResumeNotFoundException.class, ex.getCause());
+        verify(geminiService, never()).enhanceResumeContentAsync(any());
+    }
+
+    @Test
+    void testEnhanceResumeAsync_AppliesAiResponse() throws Exception {
+        // Arrange
+        EnhancementRequestDTO request = new EnhancementRequestDTO();
+        when(resumeRepository.existsById(1L)).thenReturn(true);
+        when(resumeRepository.findById(1L)).thenReturn(Optional.of(sampleResumeData));
+        when(resumeRepository.save(sampleResumeData)).thenReturn(sampleResumeData);
+        when(geminiService.enhanceResumeContentAsync(request)).thenReturn(
+            CompletableFuture.completedFuture("{\"enhancedCareerObjective\": \"Driven engineer\"}"));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(applicationTaskExecutor).execute(any(Runnable.class));
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+
+        // Act
+        ResumeDTO result = resumeService.enhanceResumeAsync(1L, request).get();
+
+        // Assert
+        assertEquals("Driven engineer", result.getEnhancedCareerObjective());
+        verify(resumeRepository).save(sampleResumeData);
+    }
+
+    @Test
+    void testListResumes_InvalidCursor_ThrowsException() {
+        // Act & Assert
+        assertThrows(InvalidResumeDataException.class, () ->
+                resumeService.listResumes(null, null, "not-a-cursor", 20));
+        verifyNoInteractions(resumeRepository);
+    }
 }
@@ -0,0 +1,168 @@
+package com.airesumebuilder.service;
+
+import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.exception.ResumeVersionMismatchException;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.Skill;
+import com.airesumebuilder.repository.ResumeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for resume versioning
+ *
+ * Tests cover:
+ * - Version increments on field and section changes
+ * - Conditional updates rejected for outdated versions
+ * - Lost updates detected between concurrent transactions
+ * - ETag and If-None-Match handling on GET and PDF download
+ * - If-Match handling on PUT
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResumeVersioningTest {
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Long resumeId;
+
+    @BeforeEach
+    void setUp() {
+        ResumeDTO dto = new ResumeDTO();
+        dto.setFirstName("Jane");
+        dto.setLastName("Roe");
+        dto.setEmail("jane.roe@example.com");
+        dto.setPhone("9876543210");
+        dto.setSkills(new ArrayList<>(List.of(new Skill(null, "Java", "Advanced", null, null))));
+        resumeId = resumeService.createResume(dto).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        resumeRepository.deleteById(resumeId);
+    }
+
+    private ResumeDTO objectiveUpdate(String careerObjective) {
+        ResumeDTO update = new ResumeDTO();
+        update.setCareerObjective(careerObjective);
+        return update;
+    }
+
+    @Test
+    void testUpdateResume_IncrementsVersion() {
+        // Act
+        ResumeDTO updated = resumeService.updateResume(resumeId, objectiveUpdate("updated"));
+
+        // Assert
+        assertEquals(1L, updated.getVersion());
+        assertEquals(1L, resumeService.getResumeById(resumeId).getVersion());
+    }
+
+    @Test
+    void testUpdateResume_SectionOnlyChange_IncrementsVersion() {
+        // Arrange
+        ResumeDTO update = resumeService.getResumeById(resumeId);
+        update.getSkills().get(0).setProficiency("Expert");
+
+        // Act
+        ResumeDTO updated = resumeService.updateResume(resumeId, update);
+
+        // Assert
+        assertEquals(1L, updated.getVersion());
+    }
+
+    @Test
+    void testUpdateResume_OutdatedExpectedVersion_Throws() {
+        // Arrange
+        resumeService.updateResume(resumeId, objectiveUpdate("first"));
+
+        // Act & Assert
+        ResumeVersionMismatchException e = assertThrows(ResumeVersionMismatchException.class, () ->
+                resumeService.updateResume(resumeId, objectiveUpdate("second"), 0L));
+        assertEquals(1L, e.getCurrentVersion());
+        assertEquals("first", resumeService.getResumeById(resumeId).getCareerObjective());
+    }
+
+    @Test
+    void testConcurrentUpdate_LaterCommitFails() {
+        // Act & Assert - the outer transaction read version 0 before the inner one committed
+        assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    ResumeData stale = resumeRepository.findById(resumeId).orElseThrow();
+                    CompletableFuture.runAsync(() ->
+                            resumeService.updateResume(resumeId, objectiveUpdate("committed first"))).join();
+                    stale.setCareerObjective("lost update");
+                }));
+        assertEquals("committed first", resumeService.getResumeById(resumeId).getCareerObjective());
+    }
+
+    @Test
+    void testGetResume_MatchingETag_Returns304() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/resume/{id}", resumeId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+        mockMvc.perform(get("/api/resume/{id}", resumeId).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified());
+
+        resumeService.updateResume(resumeId, objectiveUpdate("updated"));
+        mockMvc.perform(get("/api/resume/{id}", resumeId).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    void testDownloadPdf_MatchingETag_Returns304() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/resume/{id}/pdf", resumeId).header(HttpHeaders.IF_NONE_MATCH, "W/\"pdf-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"pdf-0\""));
+    }
+
+    @Test
+    void testPutResume_IfMatch() throws Exception {
+        // Arrange
+        String body = "{\"firstName\": \"Jane\", \"lastName\": \"Roe\", \"email\": \"jane.roe@example.com\","
+                + " \"phone\": \"9876543210\", \"location\": \"Pune\"}";
+
+        // Act & Assert
+        mockMvc.perform(put("/api/resume/{id}", resumeId).header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+        mockMvc.perform(put("/api/resume/{id}", resumeId).header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isPreconditionFailed());
+    }
+}
@@ -0,0 +1,126 @@
+package com.airesumebuilder.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local HTTP stand-in for the Gemini generateContent endpoint.
+ * Answers every POST with a fixed candidate after a configurable delay, so tests and
+ * benchmarks can exercise the AI paths without calling the real API. A configurable
+ * share of requests can instead fail with a server error, to exercise the retry paths.
+ */
+public class GeminiStubServer implements AutoCloseable {
+
+    private static final String PATH = "/v1beta/models/gemini-stub:generateContent";
+
+    // Text part is itself JSON so both the enhance and score parsers accept it
+    private static final String RESPONSE_BODY = """
+        {"candidates": [{"content": {"parts": [{"text":
+          "{\\"enhancedCareerObjective\\": \\"Motivated graduate seeking a software engineering role\\", \\"enhancedProfessionalSummary\\": \\"Builder of reliable web services\\", \\"score\\": 82, \\"feedback\\": \\"Clear and well structured\\"}"
+        }]}}]}
+        """;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile double errorRate;
+    private volatile int errorStatus = 503;
+
+    public GeminiStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "gemini-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+    }
+
+    public GeminiStubServer start() {
+        server.start();
+        return this;
+    }
+
+    /**
+     * Endpoint URL to configure as gemini.api.endpoint
+     */
+    public String getEndpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + PATH;
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Share of requests, from 0 to 1, answered with the error status instead of a candidate
+     */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public void setErrorStatus(int errorStatus) {
+        this.errorStatus = errorStatus;
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+        }
+        requestCount.incrementAndGet();
+        sleep(latency);
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            errorCount.incrementAndGet();
+            exchange.sendResponseHeaders(errorStatus, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] response = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.airesumebuilder.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts JDBC round trips made by integration tests.
+ * Wraps the application DataSource so that every statement execution and every
+ * executeBatch call is counted, split into inserts, updates, deletes and sequence calls.
+ *
+ * Picked up by component scanning in every @SpringBootTest context.
+ */
+@Component
+public class JdbcRoundTripCounter implements BeanPostProcessor {
+
+    private static final AtomicInteger inserts = new AtomicInteger();
+    private static final AtomicInteger updates = new AtomicInteger();
+    private static final AtomicInteger deletes = new AtomicInteger();
+    private static final AtomicInteger sequenceCalls = new AtomicInteger();
+    private static final AtomicInteger total = new AtomicInteger();
+
+    public static void reset() {
+        inserts.set(0);
+        updates.set(0);
+        deletes.set(0);
+        sequenceCalls.set(0);
+        total.set(0);
+    }
+
+    public static int getInserts() {
+        return inserts.get();
+    }
+
+    public static int getUpdates() {
+        return updates.get();
+    }
+
+    public static int getDeletes() {
+        return deletes.get();
+    }
+
+    public static int getSequenceCalls() {
+        return sequenceCalls.get();
+    }
+
+    public static int getTotal() {
+        return total.get();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, args, result) ->
+                    result instanceof Connection connection ? proxyConnection(connection) : result);
+        }
+        return bean;
+    }
+
+    private Connection proxyConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> {
+            if (result instanceof PreparedStatement statement && args != null && args[0] instanceof String sql) {
+                return proxyStatement(PreparedStatement.class, statement, sql);
+            }
+            if (result instanceof Statement statement && !(result instanceof PreparedStatement)) {
+                return proxyStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S proxyStatement(Class<S> type, S statement, String preparedSql) {
+        return proxy(type, statement, (method, args, result) -> {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String sql = preparedSql != null ? preparedSql
+                        : (args != null && args.length > 0 && args[0] instanceof String s ? s : "");
+                record(sql);
+            }
+            return result;
+        });
+    }
+
+    private void record(String sql) {
+        String normalized = sql.trim().toLowerCase(Locale.ROOT);
+        if (normalized.startsWith("insert")) {
+            inserts.incrementAndGet();
+        } else if (normalized.startsWith("update")) {
+            updates.incrementAndGet();
+        } else if (normalized.startsWith("delete")) {
+            deletes.incrementAndGet();
+        } else if (normalized.contains("nextval") || normalized.contains("next value for")) {
+            sequenceCalls.incrementAndGet();
+        }
+        total.incrementAndGet();
+    }
+
+    @FunctionalInterface
+    private interface ResultMapper {
+        Object map(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if ("unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName())) {
+                return method.invoke(target, args);
+            }
+            try {
+                return mapper.map(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
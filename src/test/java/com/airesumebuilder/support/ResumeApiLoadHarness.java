@@ -0,0 +1,316 @@
+package com.airesumebuilder.support;
+
+import com.airesumebuilder.dto.ResumeDTO;
+import com.airesumebuilder.model.ResumeData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives a weighted mix of resume API requests against a running application and
+ * collects latency and status codes per endpoint.
+ *
+ * Shared by the end-to-end load test and the thread-model benchmark: seed synthetic
+ * resumes, run the mix from concurrent clients for a fixed time, then report p50/p99/max
+ * latency, throughput and error statuses per endpoint.
+ */
+public class ResumeApiLoadHarness {
+
+    private static final String[] TEMPLATES = {"classic", "modern", "creative"};
+
+    /**
+     * Endpoints in the mix and the request each one sends for a resume
+     */
+    public enum Endpoint {
+        SUBMIT, GET, UPDATE, ENHANCE, SCORE, PDF
+    }
+
+    /**
+     * Latencies and status codes of the requests sent to one endpoint
+     */
+    public static class EndpointStats {
+        private long[] latencies = new long[1024];
+        private int count;
+        private final Map<Integer, Integer> errorsByStatus = new TreeMap<>();
+
+        void record(long nanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (status < 200 || status >= 300) {
+                errorsByStatus.merge(status, 1, Integer::sum);
+            }
+        }
+
+        void addAll(EndpointStats other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            other.errorsByStatus.forEach((status, errors) -> errorsByStatus.merge(status, errors, Integer::sum));
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getErrors() {
+            return errorsByStatus.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        public Map<Integer, Integer> getErrorsByStatus() {
+            return Collections.unmodifiableMap(errorsByStatus);
+        }
+
+        public double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Merged results of one timed run
+     */
+    public static class LoadResult {
+        private final Map<Endpoint, EndpointStats> stats;
+        private final int concurrency;
+        private final double seconds;
+
+        LoadResult(Map<Endpoint, EndpointStats> stats, int concurrency, double seconds) {
+            this.stats = stats;
+            this.concurrency = concurrency;
+            this.seconds = seconds;
+        }
+
+        public EndpointStats get(Endpoint endpoint) {
+            return stats.get(endpoint);
+        }
+
+        public double throughput(Endpoint endpoint) {
+            return stats.get(endpoint).getCount() / seconds;
+        }
+
+        public double totalThroughput() {
+            return stats.values().stream().mapToInt(EndpointStats::getCount).sum() / seconds;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public double getSeconds() {
+            return seconds;
+        }
+    }
+
+    private final int port;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicLong nextSeed = new AtomicLong(1_000_000);
+    private final List<Long> resumeIds = new ArrayList<>();
+    private final Map<Long, String> enhancementBodies = new TreeMap<>();
+
+    public ResumeApiLoadHarness(int port, ObjectMapper objectMapper) {
+        this.port = port;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Parse a mix such as "get=50,pdf=15", dropping endpoints with weight 0
+     */
+    public static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.valueOf(parts[0].trim().toUpperCase()), weight);
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Create the resumes the mix reads and updates, with sizes and templates spread evenly
+     */
+    public void seedResumes(int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            ResumeData resume = syntheticResume(i);
+            HttpResponse<String> response = httpClient.send(submitRequest(resume), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+            }
+            long id = objectMapper.readTree(response.body()).path("data").path("id").asLong();
+            resumeIds.add(id);
+            enhancementBodies.put(id, objectMapper.writeValueAsString(SyntheticResumes.enhancementRequest(resume)));
+        }
+    }
+
+    /**
+     * Drive the mix from the given number of clients for the given time and merge their results
+     */
+    public LoadResult run(Map<Endpoint, Integer> weights, int concurrency, int seconds) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Map<Endpoint, EndpointStats>>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> client(weights, deadline)));
+            }
+            Map<Endpoint, EndpointStats> merged = newStats();
+            for (Future<Map<Endpoint, EndpointStats>> future : futures) {
+                future.get().forEach((endpoint, stats) -> merged.get(endpoint).addAll(stats));
+            }
+            return new LoadResult(merged, concurrency, (System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    /**
+     * Print the per-endpoint table of a run under the given heading
+     */
+    public void report(String heading, LoadResult result) {
+        System.out.println(heading);
+        System.out.printf("%-8s %9s %8s %9s %9s %9s %9s  %s%n",
+                "endpoint", "requests", "errors", "p50 ms", "p99 ms", "max ms", "req/s", "error statuses");
+        long total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            EndpointStats stats = result.get(endpoint);
+            if (stats.getCount() == 0) {
+                continue;
+            }
+            total += stats.getCount();
+            System.out.printf("%-8s %9d %8d %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    endpoint.name().toLowerCase(), stats.getCount(), stats.getErrors(),
+                    stats.percentileMillis(50), stats.percentileMillis(99), stats.percentileMillis(100),
+                    result.throughput(endpoint), stats.getErrorsByStatus());
+        }
+        System.out.printf("%-8s %9d %8s %9s %9s %9s %9.1f%n", "total", total, "", "", "", "", result.totalThroughput());
+    }
+
+    /**
+     * Print throughput and p99 of a run next to a baseline run, per endpoint
+     */
+    public void reportComparison(String baselineLabel, LoadResult baseline, String label, LoadResult result) {
+        System.out.printf("%s versus %s%n", label, baselineLabel);
+        System.out.printf("%-8s %12s %12s %12s %12s%n", "endpoint", "req/s", "baseline", "p99 ms", "baseline");
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (result.get(endpoint).getCount() == 0 || baseline.get(endpoint).getCount() == 0) {
+                continue;
+            }
+            System.out.printf("%-8s %12.1f %12.1f %12.1f %12.1f%n", endpoint.name().toLowerCase(),
+                    result.throughput(endpoint), baseline.throughput(endpoint),
+                    result.get(endpoint).percentileMillis(99), baseline.get(endpoint).percentileMillis(99));
+        }
+        System.out.printf("%-8s %12.1f %12.1f  (%.2fx)%n", "total", result.totalThroughput(),
+                baseline.totalThroughput(), result.totalThroughput() / baseline.totalThroughput());
+    }
+
+    private Map<Endpoint, EndpointStats> client(Map<Endpoint, Integer> weights, long deadline) throws Exception {
+        Map<Endpoint, EndpointStats> stats = newStats();
+        int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = pick(weights, ThreadLocalRandom.current().nextInt(totalWeight));
+            HttpRequest request = request(endpoint, resumeIds.get(ThreadLocalRandom.current().nextInt(resumeIds.size())));
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = send(endpoint, request);
+            } catch (IOException e) {
+                status = 0;
+            }
+            stats.get(endpoint).record(System.nanoTime() - start, status);
+        }
+        return stats;
+    }
+
+    private HttpRequest request(Endpoint endpoint, long id) throws Exception {
+        String resumeUrl = "http://127.0.0.1:" + port + "/api/resume/" + id;
+        return switch (endpoint) {
+            case SUBMIT -> submitRequest(syntheticResume(nextSeed.getAndIncrement()));
+            case GET -> HttpRequest.newBuilder(URI.create(resumeUrl)).GET().build();
+            case UPDATE -> jsonRequest(resumeUrl, "PUT", resumeJson(syntheticResume(nextSeed.getAndIncrement())));
+            case ENHANCE -> jsonRequest(resumeUrl + "/enhance", "POST", enhancementBodies.get(id));
+            case SCORE -> jsonRequest(resumeUrl + "/score", "POST", enhancementBodies.get(id));
+            case PDF -> HttpRequest.newBuilder(URI.create(resumeUrl + "/pdf")).GET().build();
+        };
+    }
+
+    /**
+     * Send a request, read the whole response and return its status
+     */
+    private int send(Endpoint endpoint, HttpRequest request) throws IOException, InterruptedException {
+        if (endpoint == Endpoint.PDF) {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        }
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).statusCode();
+    }
+
+    private HttpRequest submitRequest(ResumeData resume) throws Exception {
+        return jsonRequest("http://127.0.0.1:" + port + "/api/resume/submit", "POST", resumeJson(resume));
+    }
+
+    private HttpRequest jsonRequest(String url, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String resumeJson(ResumeData resume) throws Exception {
+        ResumeDTO dto = ResumeDTO.fromEntity(resume);
+        dto.setId(null);
+        return objectMapper.writeValueAsString(dto);
+    }
+
+    private ResumeData syntheticResume(long seed) {
+        SyntheticResumes.Size size = SyntheticResumes.Size.values()[(int) (seed % SyntheticResumes.Size.values().length)];
+        return SyntheticResumes.resume(size, TEMPLATES[(int) (seed % TEMPLATES.length)], seed);
+    }
+
+    private static Endpoint pick(Map<Endpoint, Integer> weights, int ticket) {
+        for (Map.Entry<Endpoint, Integer> entry : weights.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty mix");
+    }
+
+    private static Map<Endpoint, EndpointStats> newStats() {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,256 @@
+package com.airesumebuilder.support;
+
+import com.airesumebuilder.dto.EnhancementRequestDTO;
+import com.airesumebuilder.model.Achievement;
+import com.airesumebuilder.model.Certification;
+import com.airesumebuilder.model.Education;
+import com.airesumebuilder.model.Language;
+import com.airesumebuilder.model.Project;
+import com.airesumebuilder.model.ResumeData;
+import com.airesumebuilder.model.Skill;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Generator of realistic resumes for benchmarks and load tests, plus a fixed resume
+ * for repository tests. The same size and seed always give the same resume, so runs are comparable.
+ */
+public final class SyntheticResumes {
+
+    /**
+     * Resume sizes, from a sparse first draft to a multi-page resume
+     */
+    public enum Size {
+        SMALL(1, 4, 1, 0, 1, 1, 12),
+        MEDIUM(1, 10, 3, 2, 2, 3, 30),
+        LARGE(2, 25, 8, 6, 4, 10, 60);
+
+        final int educations;
+        final int skills;
+        final int projects;
+        final int certifications;
+        final int languages;
+        final int achievements;
+        // Words per free-text field
+        final int words;
+
+        Size(int educations, int skills, int projects, int certifications, int languages, int achievements, int words) {
+            this.educations = educations;
+            this.skills = skills;
+            this.projects = projects;
+            this.certifications = certifications;
+            this.languages = languages;
+            this.achievements = achievements;
+            this.words = words;
+        }
+    }
+
+    private static final String[] FIRST_NAMES = {"Asha", "Ravi", "Meera", "Kiran", "Divya", "Arjun", "Priya", "Rahul"};
+    private static final String[] LAST_NAMES = {"Rao", "Kumar", "Iyer", "Sharma", "Nair", "Patel", "Reddy", "Das"};
+    private static final String[] CITIES = {"Chennai", "Bengaluru", "Pune", "Hyderabad", "Kochi", "Mumbai"};
+    private static final String[] DEGREES = {"B.Tech", "B.E.", "B.Sc", "M.Tech", "MCA"};
+    private static final String[] FIELDS = {"Computer Science", "Information Technology", "Electronics", "Data Science"};
+    private static final String[] UNIVERSITIES = {"Anna University", "VIT University", "Pune University", "IIIT Hyderabad"};
+    private static final String[] SKILLS = {"Java", "Spring Boot", "SQL", "PostgreSQL", "Git", "Docker", "Kubernetes",
+            "REST APIs", "Linux", "Python", "JavaScript", "React", "HTML", "CSS", "AWS", "Kafka", "Redis", "JUnit",
+            "Maven", "Gradle", "Microservices", "Data Structures", "Algorithms", "Agile", "CI/CD"};
+    private static final String[] PROFICIENCIES = {"Beginner", "Intermediate", "Advanced"};
+    private static final String[] ISSUERS = {"Oracle", "AWS", "Google", "Microsoft", "Coursera", "NPTEL"};
+    private static final String[] LANGUAGES = {"English", "Hindi", "Tamil", "Telugu", "Malayalam", "Kannada"};
+    private static final String[] WORDS = {"built", "designed", "implemented", "service", "users", "data",
+            "reliable", "team", "scalable", "tested", "deployed", "students", "platform", "reports", "improved",
+            "latency", "database", "features", "automated", "workflow", "analysis", "dashboard", "secure",
+            "campus", "open", "source", "application", "performance", "learning", "project", "delivered"};
+
+    private SyntheticResumes() {
+    }
+
+    /**
+     * A resume of the given size and template with every section filled in up to that size
+     */
+    public static ResumeData resume(Size size, String template, long seed) {
+        Random random = new Random(seed);
+        ResumeData resume = new ResumeData();
+        resume.setId(seed);
+        resume.setTemplate(template);
+        resume.setFirstName(pick(random, FIRST_NAMES));
+        resume.setLastName(pick(random, LAST_NAMES));
+        resume.setEmail(resume.getFirstName().toLowerCase() + "." + resume.getLastName().toLowerCase() + seed + "@example.com");
+        resume.setPhone(String.valueOf(9_000_000_000L + random.nextInt(1_000_000_000)));
+        resume.setLocation(pick(random, CITIES) + ", India");
+        resume.setCareerObjective(sentence(random, size.words));
+        resume.setProfessionalSummary(sentence(random, size.words));
+
+        List<Education> educations = new ArrayList<>();
+        for (int i = 0; i < size.educations; i++) {
+            educations.add(new Education(null, pick(random, DEGREES), pick(random, UNIVERSITIES), pick(random, FIELDS),
+                    2021 + random.nextInt(5), Math.round((6 + random.nextDouble() * 4) * 10) / 10.0, null, resume));
+        }
+        resume.setEducations(educations);
+
+        List<Skill> skills = new ArrayList<>();
+        for (int i = 0; i < size.skills; i++) {
+            skills.add(new Skill(null, SKILLS[i % SKILLS.length], pick(random, PROFICIENCIES), null, resume));
+        }
+        resume.setSkills(skills);
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < size.projects; i++) {
+            Project project = new Project();
+            project.setProjectName(capitalize(words(random, 3)));
+            project.setStartDate("Jan " + (2021 + i % 4));
+            project.setEndDate("May " + (2021 + i % 4));
+            project.setDescription(sentence(random, size.words));
+            project.setTechnologies(pick(random, SKILLS) + ", " + pick(random, SKILLS) + ", " + pick(random, SKILLS));
+            project.setResume(resume);
+            projects.add(project);
+        }
+        resume.setProjects(projects);
+
+        List<Certification> certifications = new ArrayList<>();
+        for (int i = 0; i < size.certifications; i++) {
+            certifications.add(new Certification(null, pick(random, SKILLS) + " Certification", pick(random, ISSUERS),
+                    String.valueOf(2021 + random.nextInt(5)), null, null, null, resume));
+        }
+        resume.setCertifications(certifications);
+
+        List<Language> languages = new ArrayList<>();
+        for (int i = 0; i < size.languages; i++) {
+            languages.add(new Language(null, LANGUAGES[i % LANGUAGES.length], pick(random, PROFICIENCIES), resume));
+        }
+        resume.setLanguages(languages);
+
+        List<Achievement> achievements = new ArrayList<>();
+        for (int i = 0; i < size.achievements; i++) {
+            achievements.add(new Achievement(null, capitalize(words(random, 4)), sentence(random, size.words / 2),
+                    null, null, resume));
+        }
+        resume.setAchievements(achievements);
+        return resume;
+    }
+
+    /**
+     * An unsaved resume with 1 education, 5 projects, 10 skills and 5 achievements and no
+     * other sections, for tests that count the statements it takes to save or load one
+     */
+    public static ResumeData unsavedResume(String email) {
+        ResumeData resume = new ResumeData();
+        resume.setFirstName("John");
+        resume.setLastName("Doe");
+        resume.setEmail(email);
+        resume.setPhone("9876543210");
+
+        Education education = new Education();
+        education.setDegree("B.Tech");
+        education.setUniversity("State University");
+        education.setFieldOfStudy("Computer Science");
+        education.setGraduationYear(2024);
+        resume.setEducations(new ArrayList<>(List.of(education)));
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Project project = new Project();
+            project.setProjectName("Project " + i);
+            projects.add(project);
+        }
+        resume.setProjects(projects);
+
+        List<Skill> skills = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            skills.add(new Skill(null, "Skill " + i, "Advanced", null, null));
+        }
+        resume.setSkills(skills);
+
+        List<Achievement> achievements = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Achievement achievement = new Achievement();
+            achievement.setAchievementTitle("Award " + i);
+            achievements.add(achievement);
+        }
+        resume.setAchievements(achievements);
+        resume.setCertifications(new ArrayList<>());
+        resume.setLanguages(new ArrayList<>());
+        return resume;
+    }
+
+    /**
+     * The enhancement request the AI endpoints would send for a resume
+     */
+    public static EnhancementRequestDTO enhancementRequest(ResumeData resume) {
+        return new EnhancementRequestDTO(resume.getId(), resume.getCareerObjective(), resume.getProfessionalSummary(),
+                resume.getSkills().stream().map(Skill::getSkillName).collect(Collectors.joining(", ")),
+                resume.getProjects().stream().map(Project::getDescription).collect(Collectors.joining("\n")),
+                resume.getAchievements().stream().map(Achievement::getAchievementTitle).collect(Collectors.joining("\n")));
+    }
+
+    /**
+     * A Gemini generateContent response whose text part is an enhancement of the given resume,
+     * with the metadata fields the real API sends alongside it
+     */
+    public static String geminiResponse(ResumeData resume) {
+        JsonObject enhanced = new JsonObject();
+        enhanced.addProperty("enhancedCareerObjective", "Motivated graduate: " + resume.getCareerObjective());
+        enhanced.addProperty("enhancedProfessionalSummary", "Proven builder: " + resume.getProfessionalSummary());
+        JsonArray suggestions = new JsonArray();
+        resume.getProjects().forEach(project -> suggestions.add("Quantify the impact of " + project.getProjectName()));
+        enhanced.add("suggestions", suggestions);
+
+        JsonObject part = new JsonObject();
+        part.addProperty("text", enhanced.toString());
+        JsonArray parts = new JsonArray();
+        parts.add(part);
+        JsonObject content = new JsonObject();
+        content.add("parts", parts);
+        content.addProperty("role", "model");
+
+        JsonObject candidate = new JsonObject();
+        candidate.add("content", content);
+        candidate.addProperty("finishReason", "STOP");
+        candidate.addProperty("index", 0);
+        JsonArray safetyRatings = new JsonArray();
+        for (String category : List.of("HARM_CATEGORY_HARASSMENT", "HARM_CATEGORY_HATE_SPEECH",
+                "HARM_CATEGORY_SEXUALLY_EXPLICIT", "HARM_CATEGORY_DANGEROUS_CONTENT")) {
+            JsonObject rating = new JsonObject();
+            rating.addProperty("category", category);
+            rating.addProperty("probability", "NEGLIGIBLE");
+            safetyRatings.add(rating);
+        }
+        candidate.add("safetyRatings", safetyRatings);
+
+        JsonArray candidates = new JsonArray();
+        candidates.add(candidate);
+        JsonObject usage = new JsonObject();
+        usage.addProperty("promptTokenCount", 400 + enhanced.toString().length() / 4);
+        usage.addProperty("candidatesTokenCount", enhanced.toString().length() / 4);
+        JsonObject response = new JsonObject();
+        response.add("candidates", candidates);
+        response.add("usageMetadata", usage);
+        return response.toString();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String sentence(Random random, int count) {
+        return capitalize(words(random, count)) + ".";
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) words.append(' ');
+            words.append(pick(random, WORDS));
+        }
+        return words.toString();
+    }
+
+    private static String capitalize(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+}